@@ -0,0 +1,44 @@
+package org.example.labyrinthsolver.benchmarks;
+
+import org.example.labyrinthsolver.Labyrinth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Génération d'un labyrinthe (backtracking + complexité) à graine fixe
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenerationBenchmark {
+    @Param({"19", "257", "1025", "4097"})
+    public int size;
+
+    @Param({"42", "1337"})
+    public long seed;
+
+    @Benchmark
+    public Labyrinth generateRandomMaze() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(size, size, seed);
+        return labyrinth;
+    }
+
+    @Benchmark
+    public Labyrinth generateParallelMaze() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateParallelMaze(size, size, seed);
+        return labyrinth;
+    }
+}
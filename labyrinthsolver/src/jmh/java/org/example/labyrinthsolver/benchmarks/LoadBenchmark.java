@@ -0,0 +1,68 @@
+package org.example.labyrinthsolver.benchmarks;
+
+import org.example.labyrinthsolver.Labyrinth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Chargement par loadFromFile d'un labyrinthe écrit une fois par essai, au format texte et binaire
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+    @Param({"19", "257", "1025", "4097"})
+    public int size;
+
+    @Param({"42"})
+    public long seed;
+
+    private Path textFile, binaryFile;
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(size, size, seed);
+        textFile = Files.createTempFile("labyrinth-" + size + "-", ".txt");
+        binaryFile = Files.createTempFile("labyrinth-" + size + "-", ".lab");
+        labyrinth.saveToTextFile(textFile.toString());
+        labyrinth.saveBinary(binaryFile.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(textFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Benchmark
+    public Labyrinth loadText() throws IOException {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.loadFromFile(textFile.toString());
+        return labyrinth;
+    }
+
+    @Benchmark
+    public Labyrinth loadBinary() throws IOException {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.loadFromFile(binaryFile.toString());
+        return labyrinth;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.labyrinthsolver.benchmarks;
+
+import org.example.labyrinthsolver.BfsSolver;
+import org.example.labyrinthsolver.ComponentIndex;
+import org.example.labyrinthsolver.DeadEndFilling;
+import org.example.labyrinthsolver.DfsSolver;
+import org.example.labyrinthsolver.DistanceField;
+import org.example.labyrinthsolver.InstrumentedSolver;
+import org.example.labyrinthsolver.Labyrinth;
+import org.example.labyrinthsolver.MazeSnapshot;
+import org.example.labyrinthsolver.MetricsRegistry;
+import org.example.labyrinthsolver.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Résolution d'un labyrinthe généré une fois par essai. Les solveurs sont appelés directement :
+// solveDFS()/solveBFS() délèguent aux mêmes classes mais affichent aussi la solution dans la console.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolveBenchmark {
+    @Param({"19", "257", "1025", "4097"})
+    public int size;
+
+    @Param({"42", "1337"})
+    public long seed;
+
+    private final Solver dfs = new DfsSolver();
+    private final Solver bfs = new BfsSolver();
+    private final Solver instrumentedBfs = new InstrumentedSolver(new BfsSolver(), new MetricsRegistry());
+    private MazeSnapshot filled; // Impasses comblées une fois par essai
+    private Labyrinth labyrinth;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(size, size, seed);
+        filled = labyrinth.fillDeadEnds().getMaze();
+    }
+
+    @Benchmark
+    public Labyrinth.SolveResult solveDFS() {
+        return dfs.solve(labyrinth);
+    }
+
+    @Benchmark
+    public Labyrinth.SolveResult solveBFS() {
+        return bfs.solve(labyrinth);
+    }
+
+    // Même BFS avec les mesures activées : l'écart avec solveBFS est le coût de l'instrumentation
+    @Benchmark
+    public Labyrinth.SolveResult solveBFSInstrumented() {
+        return instrumentedBfs.solve(labyrinth);
+    }
+
+    // Mêmes solveurs sur la grille aux impasses comblées (comblement hors mesure, voir fillDeadEnds)
+    @Benchmark
+    public Labyrinth.SolveResult solveDFSFilled() {
+        return dfs.solve(filled);
+    }
+
+    @Benchmark
+    public Labyrinth.SolveResult solveBFSFilled() {
+        return bfs.solve(filled);
+    }
+
+    // Comblement des impasses (coût payé une fois par labyrinthe)
+    @Benchmark
+    public DeadEndFilling fillDeadEnds() {
+        return DeadEndFilling.build(labyrinth.snapshot());
+    }
+
+    // Lecture dans l'index des composantes, construit au premier appel puis gardé avec l'instantané
+    @Benchmark
+    public boolean isPathExists() {
+        return labyrinth.hasPath();
+    }
+
+    // Construction de l'index (coût payé une fois par labyrinthe)
+    @Benchmark
+    public ComponentIndex buildComponentIndex() {
+        return ComponentIndex.build(labyrinth.snapshot().getCells());
+    }
+
+    // Carte des distances depuis S (un BFS complet, sans cache)
+    @Benchmark
+    public DistanceField buildDistanceField() {
+        MazeSnapshot maze = labyrinth.snapshot();
+        return DistanceField.build(maze.getCells(), maze.getCells().index(maze.getStartX(), maze.getStartY()));
+    }
+}
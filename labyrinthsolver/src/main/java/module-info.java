@@ -1,6 +1,7 @@
 module org.example.labyrinthsolver {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.management; // Octets alloués par thread (InstrumentedSolver)
 
 
     opens org.example.labyrinthsolver to javafx.fxml;
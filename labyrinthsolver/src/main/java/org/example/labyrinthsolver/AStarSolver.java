@@ -0,0 +1,19 @@
+package org.example.labyrinthsolver;
+
+// Résolution A* guidée par la distance de Manhattan jusqu'à la sortie
+public class AStarSolver extends BestFirstSolver {
+    // Coût uniforme : chaque case coûte 1
+    public AStarSolver() {
+        this(null);
+    }
+
+    // Poids par case (indice x * cols + y), tous strictement positifs
+    public AStarSolver(int[] weights) {
+        super(weights, true);
+    }
+
+    @Override
+    public String getName() {
+        return "A*";
+    }
+}
@@ -0,0 +1,258 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// Générateur de Labyrinth.generateRandomMaze : Recursive Backtracking sur les cases de coordonnées
+// impaires, puis motifs, chemins alternatifs, impasses et îlots. Creuse une grille neuve qui n'est
+// publiée qu'une fois terminée ; S en (1, 1) et E en (rows - 2, cols - 2) sont ouverts et reliés.
+// Le générateur aléatoire est consommé dans le même ordre qu'avant : une graine donne le même labyrinthe.
+final class BacktrackingMazeGenerator {
+    private final Grid grid;
+    private final int rows, cols;
+    private final Random random;
+
+    private BacktrackingMazeGenerator(int rows, int cols, Random random) {
+        this.grid = new Grid(rows, cols, true); // Remplit le labyrinthe de murs ('#')
+        this.rows = rows;
+        this.cols = cols;
+        this.random = random;
+    }
+
+    static Grid generate(int rows, int cols, Random random) {
+        BacktrackingMazeGenerator generator = new BacktrackingMazeGenerator(rows, cols, random);
+
+        // Étape 1 : Génère un labyrinthe de base avec Recursive Backtracking
+        generator.recursiveBacktracking(1, 1);
+
+        // Étape 2 : Ajoute des motifs complexes, chemins alternatifs, impasses et îlots
+        generator.addComplexity();
+
+        // Ouvre le départ (S) et la sortie (E) aux positions fixes
+        generator.grid.setWall(1, 1, false);
+        generator.grid.setWall(rows - 2, cols - 2, false);
+        return generator.grid;
+    }
+
+    // Déplacements du générateur (haut, droite, bas, gauche), de deux cases à la fois
+    private static final int[] CARVE_DX = {-2, 0, 2, 0};
+    private static final int[] CARVE_DY = {0, 2, 0, -2};
+
+    // Algorithme Recursive Backtracking pour générer un labyrinthe de base
+    // Version itérative avec une pile explicite : pas de StackOverflowError sur les grands labyrinthes.
+    // Chaque cadre de pile mémorise l'ordre mélangé des 4 directions (2 bits chacune) et la prochaine à essayer.
+    private void recursiveBacktracking(int x, int y) {
+        int[] stack = new int[64]; // Indices des cases en cours d'exploration
+        int[] state = new int[64]; // Bits 0-7 : ordre des directions, bits 8+ : position dans cet ordre
+        int depth = 0;
+
+        grid.setWall(x, y, false); // Ouvre une case (chemin)
+        stack[depth] = grid.index(x, y);
+        state[depth++] = shuffledDirections();
+
+        while (depth > 0) {
+            int top = depth - 1;
+            int frame = state[top];
+            int position = frame >>> 8;
+            if (position == 4) {
+                depth--; // Toutes les directions ont été essayées : retour arrière
+                continue;
+            }
+            state[top] = frame + (1 << 8);
+            int dir = (frame >>> (2 * position)) & 3;
+            int cx = stack[top] / cols, cy = stack[top] % cols;
+            int newX = cx + CARVE_DX[dir];
+            int newY = cy + CARVE_DY[dir];
+
+            // Vérifie si la nouvelle position est dans les limites et est un mur
+            if (newX > 0 && newX < rows - 1 && newY > 0 && newY < cols - 1 && grid.isWall(newX, newY)) {
+                // Ouvre le mur entre la position actuelle et la nouvelle position
+                grid.setWall(cx + CARVE_DX[dir] / 2, cy + CARVE_DY[dir] / 2, false);
+                grid.setWall(newX, newY, false);
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                    state = Arrays.copyOf(state, depth * 2);
+                }
+                stack[depth] = grid.index(newX, newY);
+                state[depth++] = shuffledDirections(); // Même tirage qu'à l'entrée d'un appel récursif
+            }
+        }
+    }
+
+    // Mélange les 4 directions comme Collections.shuffle sur une liste de 4 éléments,
+    // en consommant le générateur dans le même ordre, mais dans un int (2 bits par position)
+    private int shuffledDirections() {
+        int order = 0b11_10_01_00; // La position k contient la direction k
+        for (int i = 4; i > 1; i--) {
+            int j = random.nextInt(i);
+            int a = (order >>> (2 * (i - 1))) & 3;
+            int b = (order >>> (2 * j)) & 3;
+            order &= ~((3 << (2 * (i - 1))) | (3 << (2 * j)));
+            order |= (b << (2 * (i - 1))) | (a << (2 * j));
+        }
+        return order;
+    }
+
+    // Ajoute des motifs complexes, chemins alternatifs, impasses et îlots
+    private void addComplexity() {
+        // Étape 1 : Ajoute des motifs complexes (croix, T, spirales)
+        addComplexPatterns();
+
+        // Étape 2 : Ouvre des murs aléatoires pour créer des chemins alternatifs
+        for (int i = 1; i < rows - 1; i++) {
+            for (int j = 1; j < cols - 1; j++) {
+                if (grid.isWall(i, j) && random.nextDouble() < 0.5) { // 50% de chance d'ouvrir un mur
+                    // Ouvre si au moins un voisin est un chemin
+                    int openNeighbors = 0;
+                    if (i > 0 && !grid.isWall(i - 1, j)) openNeighbors++;
+                    if (i < rows - 1 && !grid.isWall(i + 1, j)) openNeighbors++;
+                    if (j > 0 && !grid.isWall(i, j - 1)) openNeighbors++;
+                    if (j < cols - 1 && !grid.isWall(i, j + 1)) openNeighbors++;
+                    if (openNeighbors >= 1) {
+                        grid.setWall(i, j, false);
+                    }
+                }
+            }
+        }
+
+        // Étape 3 : Ajoute des impasses longues
+        for (int i = 1; i < rows - 1; i++) {
+            for (int j = 1; j < cols - 1; j++) {
+                if (!grid.isWall(i, j) && random.nextDouble() < 0.2) { // 20% de chance de creuser une impasse
+                    createLongDeadEnd(i, j);
+                }
+            }
+        }
+
+        // Étape 4 : Ajoute des îlots de murs
+        addWallIslands();
+
+        // Étape 5 : Vérifie que S et E sont toujours connectés
+        if (!isPathExists(grid, 1, 1, rows - 2, cols - 2)) {
+            // Si S et E ne sont plus connectés, ouvre un chemin direct (sécurité)
+            ensurePath(1, 1, rows - 2, cols - 2);
+        }
+    }
+
+    // Ajoute des motifs complexes (croix, T, spirales)
+    private void addComplexPatterns() {
+        int numPatterns = random.nextInt(5) + 3; // Entre 3 et 7 motifs
+        for (int p = 0; p < numPatterns; p++) {
+            int patternX = random.nextInt(rows - 6) + 3; // Évite les bords
+            int patternY = random.nextInt(cols - 6) + 3;
+            int patternType = random.nextInt(3); // 0: croix, 1: T, 2: spirale
+
+            switch (patternType) {
+                case 0: // Motif en croix
+                    if (isSafeToDrawPattern(patternX, patternY, 3, 3)) {
+                        grid.setWall(patternX, patternY, false);
+                        grid.setWall(patternX, patternY - 1, false);
+                        grid.setWall(patternX, patternY + 1, false);
+                        grid.setWall(patternX - 1, patternY, false);
+                        grid.setWall(patternX + 1, patternY, false);
+                    }
+                    break;
+                case 1: // Motif en T
+                    if (isSafeToDrawPattern(patternX, patternY, 2, 3)) {
+                        grid.setWall(patternX, patternY - 1, false);
+                        grid.setWall(patternX, patternY, false);
+                        grid.setWall(patternX, patternY + 1, false);
+                        grid.setWall(patternX + 1, patternY, false);
+                    }
+                    break;
+                case 2: // Motif en spirale
+                    if (isSafeToDrawPattern(patternX, patternY, 4, 4)) {
+                        grid.setWall(patternX, patternY, false);
+                        grid.setWall(patternX, patternY + 1, false);
+                        grid.setWall(patternX + 1, patternY + 1, false);
+                        grid.setWall(patternX + 1, patternY, false);
+                        grid.setWall(patternX + 1, patternY - 1, false);
+                        grid.setWall(patternX + 2, patternY - 1, false);
+                        grid.setWall(patternX + 2, patternY, false);
+                        grid.setWall(patternX + 2, patternY + 1, false);
+                        grid.setWall(patternX + 3, patternY + 1, false);
+                    }
+                    break;
+            }
+        }
+    }
+
+    // Vérifie si on peut dessiner un motif à une position donnée
+    private boolean isSafeToDrawPattern(int x, int y, int height, int width) {
+        if (x < 1 || y < 1 || x + height >= rows - 1 || y + width >= cols - 1) {
+            return false;
+        }
+        return true;
+    }
+
+    // Creuse une impasse longue à partir d'une position
+    private void createLongDeadEnd(int x, int y) {
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        List<int[]> shuffledDirections = new ArrayList<>(Arrays.asList(directions));
+        Collections.shuffle(shuffledDirections, random);
+
+        for (int[] dir : shuffledDirections) {
+            int newX = x, newY = y;
+            int length = random.nextInt(3) + 2; // Impasse de longueur 2 à 4
+            boolean canExtend = true;
+
+            // Creuse dans une direction sur plusieurs cases
+            for (int i = 0; i < length; i++) {
+                newX += dir[0];
+                newY += dir[1];
+                if (newX <= 0 || newX >= rows - 1 || newY <= 0 || newY >= cols - 1 || !grid.isWall(newX, newY)) {
+                    canExtend = false;
+                    break;
+                }
+            }
+
+            if (canExtend) {
+                newX = x;
+                newY = y;
+                for (int i = 0; i < length; i++) {
+                    newX += dir[0];
+                    newY += dir[1];
+                    grid.setWall(newX, newY, false);
+                }
+                break;
+            }
+        }
+    }
+
+    // Ajoute des îlots de murs pour forcer des détours
+    private void addWallIslands() {
+        int numIslands = random.nextInt(5) + 3; // Entre 3 et 7 îlots
+        for (int i = 0; i < numIslands; i++) {
+            int islandX = random.nextInt(rows - 4) + 2;
+            int islandY = random.nextInt(cols - 4) + 2;
+            if (!grid.isWall(islandX, islandY) && isSafeToDrawPattern(islandX, islandY, 2, 2)) {
+                grid.setWall(islandX, islandY, true);
+                if (random.nextBoolean()) {
+                    grid.setWall(islandX + 1, islandY, true);
+                    grid.setWall(islandX, islandY + 1, true);
+                }
+            }
+        }
+    }
+
+    // Vérifie si un chemin existe entre (startX, startY) et (endX, endY) sur une grille en construction
+    private static boolean isPathExists(CellGrid cells, int startX, int startY, int endX, int endY) {
+        return ComponentIndex.build(cells).connected(startX, startY, endX, endY);
+    }
+
+    // Garantit un chemin entre le départ et la sortie en cas de besoin (sécurité)
+    private void ensurePath(int startX, int startY, int endX, int endY) {
+        int x = startX, y = startY;
+        while (x != endX || y != endY) {
+            if (x < endX) {
+                x++;
+            } else if (y < endY) {
+                y++;
+            }
+            grid.setWall(x, y, false); // S et E sont placés après la génération, on peut tout ouvrir
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.labyrinthsolver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Résolution en lot, sans interface graphique : chaque fichier est lu sur un thread virtuel, puis résolu
+// par un pool borné de threads (un par cœur par défaut). Un enregistrement par labyrinthe est écrit en
+// CSV ou en JSON lines, dans l'ordre où les résolutions se terminent.
+// N'utilise aucune classe JavaFX : se lance sur le classpath, sans les modules JavaFX.
+// Lancement : java -cp target/classes org.example.labyrinthsolver.BatchSolver [options] fichier|dossier ...
+public class BatchSolver {
+    private static final String USAGE = "Usage : BatchSolver [--algo " + String.join("|", solverNames())
+            + "] [--fill-dead-ends] [--cache N] [--cache-dir dossier] [--threads N] [--format csv|jsonl]"
+            + " [--output fichier] [--metrics fichier] fichier|dossier ...";
+
+    private final Solver solver;
+    private final int threads;
+    private final boolean json;
+
+    public BatchSolver(Solver solver, int threads, boolean json) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être positif : " + threads);
+        }
+        this.solver = solver;
+        this.threads = threads;
+        this.json = json;
+    }
+
+    // Solveurs disponibles par nom ; un nouveau solveur est créé pour chaque lot
+    private static Map<String, Supplier<Solver>> solvers() {
+        Map<String, Supplier<Solver>> solvers = new LinkedHashMap<>();
+        solvers.put("bfs", BfsSolver::new);
+        solvers.put("dfs", DfsSolver::new);
+        solvers.put("astar", AStarSolver::new);
+        solvers.put("dijkstra", DijkstraSolver::new);
+        solvers.put("jps", JumpPointSolver::new);
+        solvers.put("bidir", BidirectionalBfsSolver::new);
+        solvers.put("corridor", CorridorSolver::new);
+        solvers.put("hpa", HpaSolver::new);
+        return solvers;
+    }
+
+    private static List<String> solverNames() {
+        return new ArrayList<>(solvers().keySet());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String algorithm = "bfs";
+        boolean fillDeadEnds = false;
+        int cacheSize = 0; // 0 : pas de cache
+        Path cacheDir = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String format = "csv";
+        Path output = null;
+        Path metricsFile = null; // Histogrammes des mesures par résolution, en CSV
+        List<Path> inputs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--algo" -> algorithm = value(args, ++i).toLowerCase(Locale.ROOT);
+                    case "--fill-dead-ends" -> fillDeadEnds = true;
+                    case "--cache" -> cacheSize = Integer.parseInt(value(args, ++i));
+                    case "--cache-dir" -> cacheDir = Path.of(value(args, ++i));
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    case "--format" -> format = value(args, ++i).toLowerCase(Locale.ROOT);
+                    case "--output" -> output = Path.of(value(args, ++i));
+                    case "--metrics" -> metricsFile = Path.of(value(args, ++i));
+                    default -> inputs.add(Path.of(args[i]));
+                }
+            }
+            if (!solvers().containsKey(algorithm)) {
+                throw new IllegalArgumentException("Algorithme inconnu : " + algorithm);
+            }
+            if (!format.equals("csv") && !format.equals("jsonl")) {
+                throw new IllegalArgumentException("Format inconnu : " + format);
+            }
+            if (cacheSize < 0) {
+                throw new IllegalArgumentException("Taille de cache négative : " + cacheSize);
+            }
+            if (inputs.isEmpty()) {
+                throw new IllegalArgumentException("Aucun fichier de labyrinthe");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        List<Path> files = collectFiles(inputs);
+        Solver solver = solvers().get(algorithm).get();
+        if (fillDeadEnds) {
+            solver = new DeadEndFillingSolver(solver);
+        }
+        // Le dossier seul suffit à activer le cache (les fichiers identiques d'un même lot se partagent alors
+        // aussi un résultat en mémoire)
+        SolveCache cache = null;
+        if (cacheSize > 0 || cacheDir != null) {
+            cache = new SolveCache(cacheSize > 0 ? cacheSize : 1024, cacheDir);
+            solver = new CachingSolver(solver, cache);
+        }
+        MetricsRegistry metrics = null;
+        if (metricsFile != null) {
+            metrics = new MetricsRegistry();
+            solver = new InstrumentedSolver(solver, metrics);
+        }
+        BatchSolver batch = new BatchSolver(solver, threads, format.equals("jsonl"));
+        long startTime = System.nanoTime();
+        int errors;
+        try (Writer out = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()))
+                : Files.newBufferedWriter(output)) {
+            errors = batch.run(files, out);
+        }
+        System.err.printf("%d labyrinthes traités en %.1f ms (%d erreurs)%n",
+                files.size(), SolverSupport.elapsedMs(startTime), errors);
+        if (cache != null) {
+            System.err.printf("Cache : %d en mémoire, %d sur disque, %d résolutions%n",
+                    cache.getHits(), cache.getDiskHits(), cache.getMisses());
+        }
+        if (metrics != null) {
+            try (Writer out = Files.newBufferedWriter(metricsFile)) {
+                metrics.writeCsv(out);
+            }
+        }
+        System.exit(errors == 0 ? 0 : 1);
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Valeur manquante après " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    // Développe les dossiers (récursivement) en fichiers .txt et .lab, triés par nom
+    static List<Path> collectFiles(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> walk = Files.walk(input)) {
+                    walk.filter(Files::isRegularFile)
+                            .filter(p -> p.toString().endsWith(".txt") || p.toString().endsWith(".lab"))
+                            .sorted()
+                            .forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+        return files;
+    }
+
+    // Résout tous les fichiers et écrit un enregistrement par fichier ; renvoie le nombre d'erreurs
+    public int run(List<Path> files, Writer out) throws IOException, InterruptedException {
+        synchronized (out) {
+            out.write(json ? "" : "file,algorithm,found,path_length,steps,time_ms,error\n");
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        // Labyrinthes chargés mais pas encore résolus : borne la mémoire tout en gardant le pool occupé
+        Semaphore loaded = new Semaphore(2 * threads);
+        AtomicInteger errors = new AtomicInteger();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : files) {
+                readers.submit(() -> {
+                    loaded.acquire();
+                    try {
+                        String record = process(file, workers, errors);
+                        synchronized (out) {
+                            out.write(record);
+                        }
+                    } finally {
+                        loaded.release();
+                    }
+                    return null;
+                });
+            }
+        } finally {
+            workers.shutdown(); // Fermer readers a attendu toutes les tâches
+        }
+        synchronized (out) {
+            out.flush();
+        }
+        return errors.get();
+    }
+
+    // Charge (sur le thread virtuel appelant) puis résout (sur le pool) un fichier
+    private String process(Path file, ExecutorService workers, AtomicInteger errors) throws InterruptedException {
+        Labyrinth labyrinth = new Labyrinth(null);
+        double loadMs;
+        try {
+            long loadStart = System.nanoTime();
+            labyrinth.loadFromFile(file.toString());
+            loadMs = SolverSupport.elapsedMs(loadStart);
+        } catch (IOException | RuntimeException e) {
+            errors.incrementAndGet();
+            return errorRecord(file, "lecture : " + e.getMessage());
+        }
+        try {
+            // Instrumenté : le temps de chargement rejoint les mesures de la résolution
+            return record(file, workers.submit(() -> solver instanceof InstrumentedSolver instrumented
+                    ? instrumented.measure(labyrinth.snapshot(), loadMs).getResult()
+                    : solver.solve(labyrinth)).get());
+        } catch (ExecutionException e) {
+            errors.incrementAndGet();
+            return errorRecord(file, "résolution : " + e.getCause());
+        }
+    }
+
+    private String record(Path file, Labyrinth.SolveResult result) {
+        int length = result.isPathFound() ? result.getPath().size() : 0;
+        String time = String.format(Locale.ROOT, "%.3f", result.getTimeMs());
+        if (json) {
+            return "{\"file\":" + jsonString(file.toString()) + ",\"algorithm\":" + jsonString(solver.getName())
+                    + ",\"found\":" + result.isPathFound() + ",\"pathLength\":" + length
+                    + ",\"steps\":" + result.getSteps() + ",\"timeMs\":" + time + "}\n";
+        }
+        return csvField(file.toString()) + "," + csvField(solver.getName()) + "," + result.isPathFound() + ","
+                + length + "," + result.getSteps() + "," + time + ",\n";
+    }
+
+    private String errorRecord(Path file, String message) {
+        if (json) {
+            return "{\"file\":" + jsonString(file.toString()) + ",\"algorithm\":" + jsonString(solver.getName())
+                    + ",\"found\":false,\"error\":" + jsonString(message) + "}\n";
+        }
+        return csvField(file.toString()) + "," + csvField(solver.getName()) + ",false,,,,"
+                + csvField(message) + "\n";
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Moteur commun à Dijkstra et A* : tas binaire indexé sur tableaux primitifs et poids optionnels par case.
+// Le poids d'une case est le coût pour y entrer (1 par défaut) et doit être strictement positif.
+abstract class BestFirstSolver implements Solver {
+    private final int[] weights; // Poids par case (indice x * cols + y), ou null pour un coût uniforme
+    private final int minWeight; // Plus petit poids, pour garder l'heuristique admissible
+    private final boolean useHeuristic; // true pour A* (distance de Manhattan), false pour Dijkstra
+
+    BestFirstSolver(int[] weights, boolean useHeuristic) {
+        int min = 1;
+        if (weights != null) {
+            min = Integer.MAX_VALUE;
+            for (int weight : weights) {
+                if (weight <= 0) {
+                    throw new IllegalArgumentException("Les poids des cases doivent être strictement positifs");
+                }
+                min = Math.min(min, weight);
+            }
+        }
+        this.weights = weights;
+        this.minWeight = weights == null || weights.length == 0 ? 1 : min;
+        this.useHeuristic = useHeuristic;
+    }
+
+    // Le nom seul pour un coût uniforme ; sinon le nom et une empreinte des poids, recalculée à chaque
+    // appel puisque le tableau appartient à l'appelant
+    @Override
+    public String cacheKey() {
+        if (weights == null) {
+            return getName();
+        }
+        long h = weights.length;
+        for (int weight : weights) {
+            h = (Long.rotateLeft(h, 23) ^ weight) * 0x9E3779B97F4A7C15L;
+        }
+        return getName() + " poids=" + Long.toHexString(h ^ (h >>> 29));
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        CellGrid grid = maze.getCells();
+        int rows = grid.getRows(), cols = grid.getCols();
+        int cells = rows * cols;
+        if (weights != null && weights.length != cells) {
+            throw new IllegalArgumentException("Il faut un poids par case (" + cells + "), reçu " + weights.length);
+        }
+        int endX = maze.getEndX(), endY = maze.getEndY();
+        int start = grid.index(maze.getStartX(), maze.getStartY());
+        int end = grid.index(endX, endY);
+
+        int steps = 0; // Nombre de cases développées
+        // Tableaux de travail du thread : entiers 0 à 3, longs 0 et 1
+        SolverSupport.Scratch scratch = SolverSupport.scratch();
+        int[] cost = scratch.ints(0, cells); // Coût du meilleur chemin connu depuis S
+        Arrays.fill(cost, 0, cells, Integer.MAX_VALUE);
+        int[] parent = scratch.clearedInts(1, cells); // parent[i] = indice du parent + 1 (0 = aucun)
+        long[] closed = scratch.clearedLongs(0, (cells + 63) >>> 6); // Cases définitivement traitées
+        IndexedMinHeap open = new IndexedMinHeap(scratch.ints(2, cells), scratch.longs(1, cells),
+                scratch.clearedInts(3, cells));
+
+        cost[start] = 0;
+        parent[start] = start + 1;
+        open.push(start, priority(0, start, cols, endX, endY));
+        if (trace != null) trace.partialPath(maze, cell -> SolverSupport.reconstructPath(parent, start, cell, cols));
+
+        while (!open.isEmpty()) {
+            if (trace != null) trace.frontier(open.size());
+            int current = open.poll();
+            if (trace != null) trace.expanded(current);
+            closed[current >>> 6] |= 1L << current;
+            steps++;
+
+            if (current == end) {
+                if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+                return new Labyrinth.SolveResult(SolverSupport.reconstructPath(parent, start, end, cols),
+                        steps, SolverSupport.elapsedMs(startTime), true);
+            }
+
+            // Explore les voisins (droite, bas, gauche, haut)
+            int x = current / cols, y = current - x * cols;
+            int g = cost[current];
+            if (y + 1 < cols) relax(grid, current, current + 1, g, cost, parent, closed, open, cols, endX, endY);
+            if (x + 1 < rows) relax(grid, current, current + cols, g, cost, parent, closed, open, cols, endX, endY);
+            if (y > 0) relax(grid, current, current - 1, g, cost, parent, closed, open, cols, endX, endY);
+            if (x > 0) relax(grid, current, current - cols, g, cost, parent, closed, open, cols, endX, endY);
+        }
+        return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+    }
+
+    // Met à jour le voisin next si passer par current améliore son coût
+    private void relax(CellGrid grid, int current, int next, int g, int[] cost, int[] parent, long[] closed,
+                       IndexedMinHeap open, int cols, int endX, int endY) {
+        if ((closed[next >>> 6] & (1L << next)) != 0 || grid.isWallAt(next)) {
+            return;
+        }
+        int newCost = g + (weights == null ? 1 : weights[next]);
+        if (newCost < cost[next]) {
+            cost[next] = newCost;
+            parent[next] = current + 1;
+            open.push(next, priority(newCost, next, cols, endX, endY));
+        }
+    }
+
+    // Priorité dans le tas : f = g + h sur les 32 bits de poids fort ;
+    // à f égal, la case la plus avancée (g le plus grand) sort en premier
+    private long priority(int g, int cell, int cols, int endX, int endY) {
+        if (!useHeuristic) {
+            return g;
+        }
+        int x = cell / cols, y = cell - x * cols;
+        long h = (long) (Math.abs(x - endX) + Math.abs(y - endY)) * minWeight;
+        return ((g + h) << 32) | (Integer.MAX_VALUE - g);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+
+// Résolution en largeur (BFS) : donne le plus court chemin en nombre de cases.
+// Les cases sont codées par leur indice (x * cols + y) : aucune allocation par case pendant la recherche.
+// File et parents sont les tableaux de travail du thread (emplacements entiers 0 et 1), réutilisés.
+public class BfsSolver implements Solver {
+    @Override
+    public String getName() {
+        return "BFS";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        CellGrid grid = maze.getCells();
+        int rows = grid.getRows(), cols = grid.getCols();
+        int steps = 0; // Compteur d'étapes
+        int cells = rows * cols;
+        SolverSupport.Scratch scratch = SolverSupport.scratch();
+        int[] queue = scratch.ints(0, cells); // File préallouée : chaque case y entre au plus une fois
+        int[] parent = scratch.clearedInts(1, cells); // parent[i] = indice du parent + 1 (0 = case non visitée)
+        int head = 0, tail = 0;
+        int start = grid.index(maze.getStartX(), maze.getStartY());
+        int end = grid.index(maze.getEndX(), maze.getEndY());
+        queue[tail++] = start;
+        parent[start] = start + 1; // Le départ est son propre parent
+        if (trace != null) trace.partialPath(maze, cell -> SolverSupport.reconstructPath(parent, start, cell, cols));
+
+        while (head < tail) {
+            if (trace != null) trace.frontier(tail - head);
+            int current = queue[head++];
+            if (trace != null) trace.expanded(current);
+            int x = current / cols, y = current - x * cols;
+            steps++;
+
+            // Si la sortie est atteinte, reconstruit et retourne le chemin
+            if (current == end) {
+                if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+                return new Labyrinth.SolveResult(SolverSupport.reconstructPath(parent, start, end, cols),
+                        steps, SolverSupport.elapsedMs(startTime), true);
+            }
+
+            // Explore les voisins (droite, bas, gauche, haut)
+            if (y + 1 < cols && parent[current + 1] == 0 && !grid.isWallAt(current + 1)) {
+                parent[current + 1] = current + 1;
+                queue[tail++] = current + 1;
+            }
+            if (x + 1 < rows && parent[current + cols] == 0 && !grid.isWallAt(current + cols)) {
+                parent[current + cols] = current + 1;
+                queue[tail++] = current + cols;
+            }
+            if (y > 0 && parent[current - 1] == 0 && !grid.isWallAt(current - 1)) {
+                parent[current - 1] = current + 1;
+                queue[tail++] = current - 1;
+            }
+            if (x > 0 && parent[current - cols] == 0 && !grid.isWallAt(current - cols)) {
+                parent[current - cols] = current + 1;
+                queue[tail++] = current - cols;
+            }
+        }
+        return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Résolution BFS bidirectionnelle : deux fronts partent de S et de E, niveau par niveau et
+// alternativement, et s'arrêtent dès qu'ils se touchent. Le chemin obtenu reste un plus court chemin.
+public class BidirectionalBfsSolver implements Solver {
+    @Override
+    public String getName() {
+        return "BFS bidirectionnel";
+    }
+
+    // État d'un des deux fronts
+    private static final class Frontier {
+        final int[] parent; // parent[i] = indice du parent + 1 (0 = case non atteinte par ce front)
+        final int direction; // +1 : la file avance vers la fin du tableau partagé, -1 : vers le début
+        int head, tail; // Prochaine case à traiter et prochain emplacement libre
+
+        Frontier(int[] parent, int first, int direction) {
+            this.parent = parent;
+            this.direction = direction;
+            this.head = first;
+            this.tail = first;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        CellGrid grid = maze.getCells();
+        int rows = grid.getRows(), cols = grid.getCols();
+        int cells = rows * cols;
+        int start = grid.index(maze.getStartX(), maze.getStartY());
+        int end = grid.index(maze.getEndX(), maze.getEndY());
+
+        if (grid.isWallAt(end)) {
+            // Comme pour BFS, une sortie murée n'est jamais atteinte
+            return new Labyrinth.SolveResult(new ArrayList<>(), 0, SolverSupport.elapsedMs(startTime), false);
+        }
+        if (start == end) {
+            List<int[]> path = new ArrayList<>();
+            path.add(new int[]{maze.getStartX(), maze.getStartY()});
+            return new Labyrinth.SolveResult(path, 1, SolverSupport.elapsedMs(startTime), true);
+        }
+
+        // Une case n'entre que dans une seule file (on s'arrête avant d'ajouter une case déjà vue par
+        // l'autre front) : les deux files se partagent donc un seul tableau, l'une depuis chaque bout
+        // Tableaux de travail du thread : file (emplacement entier 0) et parents des deux fronts (1 et 2)
+        SolverSupport.Scratch scratch = SolverSupport.scratch();
+        int[] queue = scratch.ints(0, cells);
+        Frontier forward = new Frontier(scratch.clearedInts(1, cells), 0, 1);
+        Frontier backward = new Frontier(scratch.clearedInts(2, cells), cells - 1, -1);
+        enqueue(queue, forward, start, start);
+        enqueue(queue, backward, end, end);
+        // Chemin partiel : le front parti de S seulement, le seul qui mène de S à ses cases
+        int[] forwardParent = forward.parent;
+        if (trace != null) trace.partialPath(maze, cell -> SolverSupport.reconstructPath(forwardParent, start, cell, cols));
+
+        int steps = 0; // Cases retirées des deux files
+        long meeting = -1; // (case côté S << 32) | case côté E, une fois les fronts rejoints
+        boolean forwardTurn = true;
+        while (meeting < 0 && !forward.isEmpty() && !backward.isEmpty()) {
+            Frontier current = forwardTurn ? forward : backward;
+            Frontier other = forwardTurn ? backward : forward;
+            int levelEnd = current.tail;
+            while (current.head != levelEnd && meeting < 0) {
+                if (trace != null) {
+                    trace.frontier(forward.tail - forward.head + backward.head - backward.tail); // Les deux files
+                }
+                int cell = queue[current.head];
+                current.head += current.direction;
+                if (trace != null && forwardTurn) trace.expanded(cell);
+                steps++;
+                int x = cell / cols, y = cell - x * cols;
+                // Explore les voisins (droite, bas, gauche, haut)
+                int met = -1;
+                if (y + 1 < cols) met = visit(grid, queue, current, other, cell, cell + 1);
+                if (met < 0 && x + 1 < rows) met = visit(grid, queue, current, other, cell, cell + cols);
+                if (met < 0 && y > 0) met = visit(grid, queue, current, other, cell, cell - 1);
+                if (met < 0 && x > 0) met = visit(grid, queue, current, other, cell, cell - cols);
+                if (met >= 0) {
+                    meeting = forwardTurn ? ((long) cell << 32) | met : ((long) met << 32) | cell;
+                }
+            }
+            forwardTurn = !forwardTurn;
+        }
+
+        if (meeting < 0) {
+            return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+        }
+        if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+        int fromStart = (int) (meeting >>> 32);
+        int toEnd = (int) meeting;
+        List<int[]> path = SolverSupport.reconstructPath(forward.parent, start, fromStart, cols);
+        for (int cell = toEnd; ; cell = backward.parent[cell] - 1) {
+            path.add(new int[]{cell / cols, cell % cols});
+            if (cell == end) {
+                break;
+            }
+        }
+        return new Labyrinth.SolveResult(path, steps, SolverSupport.elapsedMs(startTime), true);
+    }
+
+    // Traite le voisin next de cell ; renvoie next si l'autre front l'a déjà atteint, -1 sinon
+    private static int visit(CellGrid grid, int[] queue, Frontier current, Frontier other, int cell, int next) {
+        if (current.parent[next] != 0 || grid.isWallAt(next)) {
+            return -1;
+        }
+        if (other.parent[next] != 0) {
+            return next;
+        }
+        enqueue(queue, current, next, cell);
+        return -1;
+    }
+
+    private static void enqueue(int[] queue, Frontier frontier, int cell, int parent) {
+        frontier.parent[cell] = parent + 1;
+        queue[frontier.tail] = cell;
+        frontier.tail += frontier.direction;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.labyrinthsolver;
+
+// Passe par un SolveCache avant de résoudre : un labyrinthe déjà résolu par le même solveur (même grille,
+// même S, même E) renvoie le résultat gardé sans relancer la recherche.
+public class CachingSolver implements Solver {
+    private final Solver solver;
+    private final SolveCache cache;
+
+    public CachingSolver(Solver solver, SolveCache cache) {
+        this.solver = solver;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getName() {
+        return solver.getName();
+    }
+
+    @Override
+    public String cacheKey() {
+        return solver.cacheKey();
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        return cache.solve(solver, maze);
+    }
+}
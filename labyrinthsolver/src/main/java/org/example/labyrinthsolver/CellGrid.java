@@ -0,0 +1,25 @@
+package org.example.labyrinthsolver;
+
+// Lecture d'une grille de labyrinthe, quel que soit son stockage (Grid en mémoire, TiledGrid sur fichier).
+// Les solveurs et isPathExists ne passent que par cette interface.
+public interface CellGrid {
+    int getRows();
+
+    int getCols();
+
+    // Vrai si la case (x, y) est un mur
+    boolean isWall(int x, int y);
+
+    // Lecture par indice linéaire (x * cols + y)
+    boolean isWallAt(int index);
+
+    // Indice linéaire de la case (x, y) en ordre ligne par ligne
+    default int index(int x, int y) {
+        return x * getCols() + y;
+    }
+
+    // Vérifie si la case (x, y) est dans les limites de la grille
+    default boolean inBounds(int x, int y) {
+        return x >= 0 && x < getRows() && y >= 0 && y < getCols();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.labyrinthsolver;
+
+// Index des composantes connexes (4-voisinage) des cases ouvertes : construit une fois par grille en
+// union-find sur un seul int[], il répond ensuite en temps constant à « B est-il atteignable depuis A ? ».
+// L'index décrit la grille au moment de sa construction ; MazeSnapshot le garde avec sa grille figée.
+public final class ComponentIndex {
+    private final int[] labels; // labels[i] = numéro de composante de la case i (1..count), 0 pour un mur
+    private final int rows, cols, count;
+
+    private ComponentIndex(int[] labels, int rows, int cols, int count) {
+        this.labels = labels;
+        this.rows = rows;
+        this.cols = cols;
+        this.count = count;
+    }
+
+    // Parcourt la grille ligne par ligne en réunissant chaque case ouverte avec ses voisines de gauche et
+    // du dessus, puis numérote les composantes dans le même tableau
+    public static ComponentIndex build(CellGrid grid) {
+        int rows = grid.getRows(), cols = grid.getCols();
+        int cells = rows * cols;
+        // Pendant la construction : parent[i] <= i (racine = plus petit indice de la composante), -1 = mur
+        int[] parent = new int[cells];
+        for (int x = 0, i = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++, i++) {
+                if (grid.isWallAt(i)) {
+                    parent[i] = -1;
+                    continue;
+                }
+                parent[i] = i;
+                if (y > 0 && parent[i - 1] >= 0) {
+                    union(parent, i - 1, i);
+                }
+                if (x > 0 && parent[i - cols] >= 0) {
+                    union(parent, i - cols, i);
+                }
+            }
+        }
+        // Les racines précèdent leurs cases : en avançant, parent[p] (p < i) porte déjà le numéro final
+        int count = 0;
+        for (int i = 0; i < cells; i++) {
+            int p = parent[i];
+            if (p < 0) {
+                parent[i] = 0;
+            } else if (p == i) {
+                parent[i] = ++count;
+            } else {
+                parent[i] = parent[p];
+            }
+        }
+        return new ComponentIndex(parent, rows, cols, count);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]]; // Compression par moitié
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // Rattache la racine la plus grande à la plus petite
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra < rb) {
+            parent[rb] = ra;
+        } else if (rb < ra) {
+            parent[ra] = rb;
+        }
+    }
+
+    // Vrai si les deux cases sont ouvertes et dans la même composante
+    public boolean connected(int fromX, int fromY, int toX, int toY) {
+        int from = componentOf(fromX, fromY);
+        return from != 0 && from == componentOf(toX, toY);
+    }
+
+    // Numéro de composante de la case (x, y), 0 pour un mur ou une case hors de la grille
+    public int componentOf(int x, int y) {
+        if (x < 0 || x >= rows || y < 0 || y >= cols) {
+            return 0;
+        }
+        return labels[x * cols + y];
+    }
+
+    public int getComponentCount() {
+        return count;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.labyrinthsolver;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Graphe des couloirs : chaque suite de cases à exactement deux voisines ouvertes est remplacée par une
+// arête pondérée (sa longueur en cases) entre deux nœuds. Les nœuds sont les carrefours, les impasses et
+// les cases imposées (S et E). Le graphe est rangé en CSR (tableaux primitifs) : les arcs du nœud n sont
+// aux positions offsets[n] .. offsets[n + 1] - 1. Il décrit la grille au moment de sa construction ;
+// MazeSnapshot le garde avec sa grille figée pour le réutiliser d'une requête à l'autre.
+// Les boucles de couloir sans aucun nœud ne sont reliées à rien et ne figurent pas dans le graphe.
+public final class CorridorGraph {
+    final CellGrid grid;
+    final int[] nodeCells; // Indice (x * cols + y) de chaque nœud, trié
+    private final long[] nodeBits; // Un bit par case : 1 si la case est un nœud
+    private final int[] rank; // rank[w] = nombre de nœuds dans les mots 0 .. w - 1 de nodeBits
+    final int[] offsets; // Début des arcs de chaque nœud, plus une sentinelle
+    final int[] targets; // Nœud d'arrivée de chaque arc
+    final int[] lengths; // Nombre de pas de l'arc (cases parcourues, arrivée comprise)
+    final int[] firstSteps; // Première case du couloir après le nœud de départ
+    private final int rows, cols;
+
+    private CorridorGraph(CellGrid grid, int[] nodeCells, long[] nodeBits, int[] rank, int[] offsets,
+                          int[] targets, int[] lengths, int[] firstSteps) {
+        this.grid = grid;
+        this.nodeBits = nodeBits;
+        this.rank = rank;
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.nodeCells = nodeCells;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.lengths = lengths;
+        this.firstSteps = firstSteps;
+    }
+
+    // Construit le graphe ; les cases imposées (indices x * cols + y) deviennent des nœuds même au
+    // milieu d'un couloir, et comptent comme ouvertes (un départ sur un mur peut être quitté)
+    public static CorridorGraph build(CellGrid grid, int... forcedCells) {
+        int rows = grid.getRows(), cols = grid.getCols();
+        int cells = rows * cols;
+        long[] forced = new long[(cells + 63) >>> 6];
+        for (int cell : forcedCells) {
+            if (cell < 0 || cell >= cells) {
+                throw new IllegalArgumentException("Case imposée hors du labyrinthe : " + cell);
+            }
+            forced[cell >>> 6] |= 1L << cell;
+        }
+
+        // Passe 1 : repère les nœuds (case ouverte dont le nombre de voisines ouvertes n'est pas 2) ;
+        // le nombre d'arcs est au plus la somme de leurs voisines ouvertes
+        long[] nodes = new long[forced.length];
+        int nodeCount = 0;
+        long maxArcs = 0;
+        for (int x = 0, i = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++, i++) {
+                boolean isForced = (forced[i >>> 6] & (1L << i)) != 0;
+                if (!isForced && grid.isWallAt(i)) {
+                    continue;
+                }
+                int degree = openNeighbors(grid, forced, i, x, y, rows, cols);
+                if (!isForced && degree == 2) {
+                    continue;
+                }
+                nodes[i >>> 6] |= 1L << i;
+                nodeCount++;
+                maxArcs += degree;
+            }
+        }
+        // Numérotation des nœuds dans l'ordre des cases : rang d'un nœud = nœuds qui le précèdent
+        int[] rank = new int[nodes.length];
+        int[] nodeCells = new int[nodeCount];
+        for (int w = 0, n = 0; w < nodes.length; w++) {
+            rank[w] = n;
+            for (long bits = nodes[w]; bits != 0; bits &= bits - 1) {
+                nodeCells[n++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        if (maxArcs > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Labyrinthe trop grand pour le graphe des couloirs");
+        }
+
+        // Passe 2 : suit chaque couloir depuis chaque nœud, dans l'ordre des nœuds (donc déjà en CSR)
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[(int) maxArcs], lengths = new int[(int) maxArcs], firstSteps = new int[(int) maxArcs];
+        int arcs = 0;
+        int[] neighbors = new int[4];
+        for (int n = 0; n < nodeCount; n++) {
+            offsets[n] = arcs;
+            int node = nodeCells[n];
+            int count = openNeighborCells(grid, forced, node, cols, rows, neighbors);
+            for (int k = 0; k < count; k++) {
+                int prev = node, current = neighbors[k], length = 1;
+                boolean deadLoop = false;
+                while ((nodes[current >>> 6] & (1L << current)) == 0) {
+                    // Case de couloir : exactement deux voisines ouvertes, on prend celle d'où l'on ne vient pas
+                    int next = nextInCorridor(grid, forced, prev, current, cols, rows);
+                    prev = current;
+                    current = next;
+                    length++;
+                    if (length > cells) {
+                        deadLoop = true; // Ne peut arriver que sur une grille incohérente
+                        break;
+                    }
+                }
+                if (deadLoop || current == node) {
+                    continue; // Couloir qui revient sur son nœud : inutile pour un plus court chemin
+                }
+                targets[arcs] = rank[current >>> 6] + Long.bitCount(nodes[current >>> 6] & ((1L << current) - 1));
+                lengths[arcs] = length;
+                firstSteps[arcs] = neighbors[k];
+                arcs++;
+            }
+        }
+        offsets[nodeCount] = arcs;
+        return new CorridorGraph(grid, nodeCells, nodes, rank, offsets, Arrays.copyOf(targets, arcs),
+                Arrays.copyOf(lengths, arcs), Arrays.copyOf(firstSteps, arcs));
+    }
+
+    private static boolean isOpen(CellGrid grid, long[] forced, int cell) {
+        return (forced[cell >>> 6] & (1L << cell)) != 0 || !grid.isWallAt(cell);
+    }
+
+    private static int openNeighbors(CellGrid grid, long[] forced, int cell, int x, int y, int rows, int cols) {
+        int count = 0;
+        if (y + 1 < cols && isOpen(grid, forced, cell + 1)) count++;
+        if (x + 1 < rows && isOpen(grid, forced, cell + cols)) count++;
+        if (y > 0 && isOpen(grid, forced, cell - 1)) count++;
+        if (x > 0 && isOpen(grid, forced, cell - cols)) count++;
+        return count;
+    }
+
+    // Voisines ouvertes (droite, bas, gauche, haut) rangées dans out ; renvoie leur nombre
+    private static int openNeighborCells(CellGrid grid, long[] forced, int cell, int cols, int rows, int[] out) {
+        int x = cell / cols, y = cell - x * cols;
+        int count = 0;
+        if (y + 1 < cols && isOpen(grid, forced, cell + 1)) out[count++] = cell + 1;
+        if (x + 1 < rows && isOpen(grid, forced, cell + cols)) out[count++] = cell + cols;
+        if (y > 0 && isOpen(grid, forced, cell - 1)) out[count++] = cell - 1;
+        if (x > 0 && isOpen(grid, forced, cell - cols)) out[count++] = cell - cols;
+        return count;
+    }
+
+    private static int nextInCorridor(CellGrid grid, long[] forced, int prev, int current, int cols, int rows) {
+        int x = current / cols, y = current - x * cols;
+        if (y + 1 < cols && current + 1 != prev && isOpen(grid, forced, current + 1)) return current + 1;
+        if (x + 1 < rows && current + cols != prev && isOpen(grid, forced, current + cols)) return current + cols;
+        if (y > 0 && current - 1 != prev && isOpen(grid, forced, current - 1)) return current - 1;
+        return current - cols;
+    }
+
+    // Numéro du nœud placé sur la case (x * cols + y), ou -1 si la case n'est pas un nœud
+    public int nodeAt(int cell) {
+        long word = nodeBits[cell >>> 6];
+        if ((word & (1L << cell)) == 0) {
+            return -1;
+        }
+        return rank[cell >>> 6] + Long.bitCount(word & ((1L << cell) - 1));
+    }
+
+    // Ajoute à path les cases de l'arc (sans la case de départ, avec celle d'arrivée)
+    void expandArc(int arc, int fromNode, List<int[]> path) {
+        int prev = nodeCells[fromNode], current = firstSteps[arc], end = nodeCells[targets[arc]];
+        path.add(new int[]{current / cols, current % cols});
+        while (current != end) {
+            // Le couloir n'a qu'une suite possible : la voisine ouverte d'où l'on ne vient pas
+            int x = current / cols, y = current - x * cols, next;
+            if (y + 1 < cols && current + 1 != prev && canEnter(current + 1, end)) next = current + 1;
+            else if (x + 1 < rows && current + cols != prev && canEnter(current + cols, end)) next = current + cols;
+            else if (y > 0 && current - 1 != prev && canEnter(current - 1, end)) next = current - 1;
+            else next = current - cols;
+            prev = current;
+            current = next;
+            path.add(new int[]{current / cols, current % cols});
+        }
+    }
+
+    // Une case de couloir est ouverte ; un nœud imposé peut être un mur (départ muré)
+    private boolean canEnter(int cell, int end) {
+        return cell == end || !grid.isWallAt(cell) || nodeAt(cell) >= 0;
+    }
+
+    public int getNodeCount() {
+        return nodeCells.length;
+    }
+
+    // Nombre d'arcs (chaque couloir compte une fois dans chaque sens)
+    public int getArcCount() {
+        return targets.length;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
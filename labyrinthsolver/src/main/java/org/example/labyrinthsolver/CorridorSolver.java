@@ -0,0 +1,130 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Résolution sur le graphe des couloirs (CorridorGraph) : A* (ou Dijkstra) ne développe que les carrefours,
+// impasses, S et E, puis le chemin est redéplié case par case. Le graphe est construit une fois par
+// instantané (MazeSnapshot.corridorGraph) ; les étapes comptent les nœuds développés, pas les cases.
+// Tableaux de travail du thread : entiers 0 à 3, longs 0 et 1, dimensionnés au nombre de nœuds.
+public class CorridorSolver implements Solver {
+    private final boolean useHeuristic; // true pour A* (distance de Manhattan), false pour Dijkstra
+
+    // A* sur le graphe des couloirs
+    public CorridorSolver() {
+        this(true);
+    }
+
+    public CorridorSolver(boolean useHeuristic) {
+        this.useHeuristic = useHeuristic;
+    }
+
+    @Override
+    public String getName() {
+        return useHeuristic ? "A* (couloirs)" : "Dijkstra (couloirs)";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        if (trace != null) trace.phase(SolveTrace.PREPROCESS); // Construction du graphe s'il n'est pas en cache
+        CorridorGraph graph = maze.corridorGraph();
+        if (trace != null) trace.phase(SolveTrace.SEARCH);
+        CellGrid grid = maze.getCells();
+        int endX = maze.getEndX(), endY = maze.getEndY();
+        int start = graph.nodeAt(grid.index(maze.getStartX(), maze.getStartY()));
+        int end = graph.nodeAt(grid.index(endX, endY));
+        if (start != end && grid.isWall(endX, endY)) {
+            // Comme les autres solveurs : on peut quitter un départ muré, pas entrer dans une sortie murée
+            return new Labyrinth.SolveResult(new ArrayList<>(), 0, SolverSupport.elapsedMs(startTime), false);
+        }
+
+        int nodes = graph.getNodeCount();
+        int cols = graph.getCols();
+        int steps = 0; // Nombre de nœuds développés
+        SolverSupport.Scratch scratch = SolverSupport.scratch();
+        int[] cost = scratch.ints(0, nodes); // Coût du meilleur chemin connu depuis S
+        Arrays.fill(cost, 0, nodes, Integer.MAX_VALUE);
+        int[] parentArc = scratch.clearedInts(1, nodes); // Arc d'arrivée + 1 (0 = aucun)
+        long[] closed = scratch.clearedLongs(0, (nodes + 63) >>> 6); // Nœuds définitivement traités
+        IndexedMinHeap open = new IndexedMinHeap(scratch.ints(2, nodes), scratch.longs(1, nodes),
+                scratch.clearedInts(3, nodes));
+
+        cost[start] = 0;
+        open.push(start, priority(0, graph.nodeCells[start], cols, endX, endY));
+        if (trace != null) trace.partialPath(maze, cell -> expand(graph, parentArc, start, graph.nodeAt(cell)));
+        while (!open.isEmpty()) {
+            if (trace != null) trace.frontier(open.size());
+            int current = open.poll();
+            if (trace != null) trace.expanded(graph.nodeCells[current]);
+            closed[current >>> 6] |= 1L << current;
+            steps++;
+
+            if (current == end) {
+                if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+                return new Labyrinth.SolveResult(expand(graph, parentArc, start, end), steps,
+                        SolverSupport.elapsedMs(startTime), true);
+            }
+
+            int g = cost[current];
+            for (int arc = graph.offsets[current], last = graph.offsets[current + 1]; arc < last; arc++) {
+                int next = graph.targets[arc];
+                if ((closed[next >>> 6] & (1L << next)) != 0) {
+                    continue;
+                }
+                int newCost = g + graph.lengths[arc];
+                if (newCost < cost[next]) {
+                    cost[next] = newCost;
+                    parentArc[next] = arc + 1;
+                    open.push(next, priority(newCost, graph.nodeCells[next], cols, endX, endY));
+                }
+            }
+        }
+        return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+    }
+
+    // Remonte les arcs depuis E, puis redéplie chaque couloir de S vers E
+    private static List<int[]> expand(CorridorGraph graph, int[] parentArc, int start, int end) {
+        int arcCount = 0;
+        for (int node = end; node != start; arcCount++) {
+            node = sourceOf(graph, parentArc[node] - 1);
+        }
+        int[] arcs = new int[arcCount];
+        int[] from = new int[arcCount];
+        for (int node = end, k = arcCount - 1; node != start; k--) {
+            arcs[k] = parentArc[node] - 1;
+            node = from[k] = sourceOf(graph, arcs[k]);
+        }
+        int cols = graph.getCols();
+        List<int[]> path = new ArrayList<>();
+        path.add(new int[]{graph.nodeCells[start] / cols, graph.nodeCells[start] % cols});
+        for (int k = 0; k < arcCount; k++) {
+            graph.expandArc(arcs[k], from[k], path);
+        }
+        return path;
+    }
+
+    // Nœud de départ d'un arc : celui dont la plage CSR contient l'arc
+    private static int sourceOf(CorridorGraph graph, int arc) {
+        int n = Arrays.binarySearch(graph.offsets, arc);
+        if (n < 0) {
+            return -n - 2;
+        }
+        while (n + 1 < graph.offsets.length && graph.offsets[n + 1] == arc) {
+            n++; // Nœuds sans arc : plusieurs débuts égaux, l'arc appartient au dernier
+        }
+        return n;
+    }
+
+    // Même ordre que BestFirstSolver : f = g + h, puis g le plus grand d'abord
+    private long priority(int g, int cell, int cols, int endX, int endY) {
+        if (!useHeuristic) {
+            return g;
+        }
+        int x = cell / cols, y = cell - x * cols;
+        long h = Math.abs(x - endX) + Math.abs(y - endY);
+        return ((g + h) << 32) | (Integer.MAX_VALUE - g);
+    }
+}
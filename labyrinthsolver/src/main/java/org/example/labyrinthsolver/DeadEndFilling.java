@@ -0,0 +1,120 @@
+package org.example.labyrinthsolver;
+
+import java.util.Arrays;
+
+// Comblement des impasses : chaque case ouverte qui a au plus une voisine ouverte est murée, puis sa
+// voisine est réexaminée, jusqu'à ce qu'il n'en reste plus. S et E ne sont jamais murées. Une case
+// comblée ne peut faire partie d'aucun chemin simple de S à E, donc tout plus court chemin est conservé
+// et un chemin trouvé dans la grille comblée est valide dans l'originale.
+// Linéaire : une passe sur la grille, puis chaque case est murée au plus une fois.
+// MazeSnapshot garde le résultat avec sa grille figée (MazeSnapshot.deadEndsFilled).
+public final class DeadEndFilling {
+    private final MazeSnapshot maze; // Même S et E, grille comblée
+    private final int removedCells;
+
+    private DeadEndFilling(MazeSnapshot maze, int removedCells) {
+        this.maze = maze;
+        this.removedCells = removedCells;
+    }
+
+    // Comble les impasses de l'instantané dans une copie en mémoire de sa grille
+    public static DeadEndFilling build(MazeSnapshot source) {
+        CellGrid cells = source.getCells();
+        int rows = cells.getRows(), cols = cells.getCols();
+        Grid grid = copyOf(cells);
+        int start = cellOf(cells, source.getStartX(), source.getStartY());
+        int end = cellOf(cells, source.getEndX(), source.getEndY());
+
+        // Pile des cases à examiner : chaque case y entre au plus une fois par la passe initiale et une
+        // fois par voisine comblée, soit au plus deux fois en tout
+        int[] stack = new int[64];
+        int size = 0;
+        for (int x = 0, i = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++, i++) {
+                if (!grid.isWallAt(i) && openNeighbors(grid, i, x, y, rows, cols, start, end) <= 1) {
+                    if (size == stack.length) {
+                        stack = Arrays.copyOf(stack, size * 2);
+                    }
+                    stack[size++] = i;
+                }
+            }
+        }
+        int removed = 0;
+        while (size > 0) {
+            int cell = stack[--size];
+            if (grid.isWallAt(cell) || cell == start || cell == end) {
+                continue;
+            }
+            int x = cell / cols, y = cell - x * cols;
+            if (openNeighbors(grid, cell, x, y, rows, cols, start, end) > 1) {
+                continue;
+            }
+            grid.setWallAt(cell, true);
+            removed++;
+            int next = openNeighbor(grid, cell, x, y, rows, cols);
+            if (next >= 0) {
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                }
+                stack[size++] = next;
+            }
+        }
+        MazeSnapshot filled = new MazeSnapshot(grid, source.getStartX(), source.getStartY(),
+                source.getEndX(), source.getEndY());
+        return new DeadEndFilling(filled, removed);
+    }
+
+    // Indice de la case, -1 si elle est hors de la grille
+    private static int cellOf(CellGrid cells, int x, int y) {
+        return cells.inBounds(x, y) ? cells.index(x, y) : -1;
+    }
+
+    // Copie modifiable de la grille (une Grid est copiée mot par mot, une TiledGrid case par case)
+    private static Grid copyOf(CellGrid cells) {
+        if (cells instanceof Grid memoryGrid) {
+            return memoryGrid.copy();
+        }
+        Grid grid = new Grid(cells.getRows(), cells.getCols(), false);
+        int total = cells.getRows() * cells.getCols();
+        for (int i = 0; i < total; i++) {
+            if (cells.isWallAt(i)) {
+                grid.setWallAt(i, true);
+            }
+        }
+        return grid;
+    }
+
+    // Voisines ouvertes de la case ; S et E comptent comme ouvertes même si ce sont des murs (on peut
+    // quitter un départ muré)
+    private static int openNeighbors(Grid grid, int i, int x, int y, int rows, int cols, int start, int end) {
+        int count = 0;
+        if (y + 1 < cols && isOpen(grid, i + 1, start, end)) count++;
+        if (x + 1 < rows && isOpen(grid, i + cols, start, end)) count++;
+        if (y > 0 && isOpen(grid, i - 1, start, end)) count++;
+        if (x > 0 && isOpen(grid, i - cols, start, end)) count++;
+        return count;
+    }
+
+    private static boolean isOpen(Grid grid, int i, int start, int end) {
+        return i == start || i == end || !grid.isWallAt(i);
+    }
+
+    // Une voisine ouverte de la case, -1 s'il n'y en a pas
+    private static int openNeighbor(Grid grid, int i, int x, int y, int rows, int cols) {
+        if (y + 1 < cols && !grid.isWallAt(i + 1)) return i + 1;
+        if (x + 1 < rows && !grid.isWallAt(i + cols)) return i + cols;
+        if (y > 0 && !grid.isWallAt(i - 1)) return i - 1;
+        if (x > 0 && !grid.isWallAt(i - cols)) return i - cols;
+        return -1;
+    }
+
+    // Instantané comblé, à passer à n'importe quel solveur
+    public MazeSnapshot getMaze() {
+        return maze;
+    }
+
+    // Nombre de cases ouvertes murées par le comblement
+    public int getRemovedCells() {
+        return removedCells;
+    }
+}
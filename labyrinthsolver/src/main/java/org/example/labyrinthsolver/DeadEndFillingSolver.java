@@ -0,0 +1,35 @@
+package org.example.labyrinthsolver;
+
+// Résout avec un autre solveur sur la grille aux impasses comblées (MazeSnapshot.deadEndsFilled).
+// Le comblement est fait une fois par instantané : la première résolution le paie (il est compté dans
+// son temps), les suivantes non.
+// Le chemin est valide dans la grille d'origine ; les étapes sont celles du solveur sur la grille comblée.
+public class DeadEndFillingSolver implements Solver {
+    private final Solver solver;
+
+    public DeadEndFillingSolver(Solver solver) {
+        this.solver = solver;
+    }
+
+    @Override
+    public String getName() {
+        return solver.getName() + " (impasses comblées)";
+    }
+
+    @Override
+    public String cacheKey() {
+        return solver.cacheKey() + " (impasses comblées)";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Le temps comprend le comblement s'il n'était pas encore fait
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        if (trace != null) trace.phase(SolveTrace.PREPROCESS);
+        MazeSnapshot filled = maze.deadEndsFilled().getMaze();
+        if (trace != null) trace.phase(SolveTrace.SEARCH);
+        Labyrinth.SolveResult result = solver.solve(filled);
+        return new Labyrinth.SolveResult(result.getPath(), result.getSteps(), SolverSupport.elapsedMs(startTime),
+                result.isPathFound());
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Résolution en profondeur (DFS) itérative : la pile explicite contient le chemin courant
+public class DfsSolver implements Solver {
+    @Override
+    public String getName() {
+        return "DFS";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        CellGrid grid = maze.getCells();
+        int rows = grid.getRows(), cols = grid.getCols();
+        int steps = 0; // Compteur d'étapes
+        // Cases visitées, un bit par case (tableau de travail du thread, emplacement long 0)
+        long[] visited = SolverSupport.scratch().clearedLongs(0, (rows * cols + 63) >>> 6);
+        int[] stack = new int[64]; // Indices des cases du chemin courant
+        byte[] nextDir = new byte[64]; // Prochaine direction à essayer pour chaque case de la pile
+        int depth = 0;
+        boolean pathFound = false;
+        int end = grid.index(maze.getEndX(), maze.getEndY());
+
+        if (grid.inBounds(maze.getStartX(), maze.getStartY())
+                && !grid.isWall(maze.getStartX(), maze.getStartY())) {
+            int start = grid.index(maze.getStartX(), maze.getStartY());
+            visited[start >>> 6] |= 1L << start;
+            stack[depth++] = start;
+            steps++;
+            pathFound = start == end;
+        }
+
+        // Explore les 4 directions (droite, bas, gauche, haut)
+        while (depth > 0 && !pathFound) {
+            int top = depth - 1;
+            int current = stack[top];
+            int dir = nextDir[top]++;
+            if (dir == 4) {
+                depth--; // Retire la position si aucun chemin n'est trouvé
+                continue;
+            }
+            int x = current / cols, y = current - x * cols;
+            int next;
+            if (dir == 0) {
+                if (y + 1 >= cols) continue;
+                next = current + 1;
+            } else if (dir == 1) {
+                if (x + 1 >= rows) continue;
+                next = current + cols;
+            } else if (dir == 2) {
+                if (y == 0) continue;
+                next = current - 1;
+            } else {
+                if (x == 0) continue;
+                next = current - cols;
+            }
+            // Ignore les murs et les cases déjà visitées
+            if ((visited[next >>> 6] & (1L << next)) != 0 || grid.isWallAt(next)) {
+                continue;
+            }
+            visited[next >>> 6] |= 1L << next;
+            steps++;
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+                nextDir = Arrays.copyOf(nextDir, depth * 2);
+            }
+            stack[depth] = next;
+            nextDir[depth++] = 0;
+            if (trace != null) {
+                try {
+                    trace.frontier(depth);
+                } catch (SolveTrace.Stopped e) {
+                    // La pile est le chemin de S à la case courante : c'est le chemin partiel
+                    throw new SolveTrace.Stopped(e.explored, SolverSupport.toPath(stack, depth, cols));
+                }
+            }
+            pathFound = next == end; // Si la sortie est atteinte, la pile est le chemin
+        }
+
+        if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+        List<int[]> path = pathFound ? SolverSupport.toPath(stack, depth, cols) : new ArrayList<>();
+        return new Labyrinth.SolveResult(path, steps, SolverSupport.elapsedMs(startTime), pathFound);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.labyrinthsolver;
+
+// Résolution de Dijkstra : plus court chemin pondéré, sans heuristique
+public class DijkstraSolver extends BestFirstSolver {
+    // Coût uniforme : chaque case coûte 1
+    public DijkstraSolver() {
+        this(null);
+    }
+
+    // Poids par case (indice x * cols + y), tous strictement positifs
+    public DijkstraSolver(int[] weights) {
+        super(weights, false);
+    }
+
+    @Override
+    public String getName() {
+        return "Dijkstra";
+    }
+}
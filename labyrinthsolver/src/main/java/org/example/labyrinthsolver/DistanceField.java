@@ -0,0 +1,142 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Carte des distances (en cases) depuis une ou plusieurs sources, calculée par un seul BFS multi-source :
+// chaque case reçoit la distance à la source la plus proche. Un chemin vers n'importe quelle case se lit
+// ensuite en descendant les distances, sans nouvelle recherche. La carte est immuable ; MazeSnapshot garde
+// les dernières cartes demandées pour que les requêtes répétées sur un même labyrinthe soient gratuites.
+public final class DistanceField {
+    public static final int UNREACHABLE = -1;
+
+    private final int[] distances; // distances[i] = distance de la case i à la source la plus proche, -1 sinon
+    private final int[] sources; // Indices des sources, triés et sans doublon
+    private final int rows, cols;
+
+    private DistanceField(int[] distances, int[] sources, int rows, int cols) {
+        this.distances = distances;
+        this.sources = sources;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    // BFS depuis toutes les sources à la fois (indices x * cols + y). Comme pour les solveurs, une source
+    // est développée même si c'est un mur.
+    public static DistanceField build(CellGrid grid, int... sourceCells) {
+        int rows = grid.getRows(), cols = grid.getCols();
+        int cells = rows * cols;
+        int[] sources = normalize(sourceCells, cells);
+        int[] distances = new int[cells];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = SolverSupport.scratch().ints(0, cells); // Chaque case y entre au plus une fois
+        int head = 0, tail = 0;
+        for (int source : sources) {
+            distances[source] = 0;
+            queue[tail++] = source;
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current / cols, y = current - x * cols;
+            int next = distances[current] + 1;
+            // Voisins (droite, bas, gauche, haut)
+            if (y + 1 < cols && distances[current + 1] < 0 && !grid.isWallAt(current + 1)) {
+                distances[current + 1] = next;
+                queue[tail++] = current + 1;
+            }
+            if (x + 1 < rows && distances[current + cols] < 0 && !grid.isWallAt(current + cols)) {
+                distances[current + cols] = next;
+                queue[tail++] = current + cols;
+            }
+            if (y > 0 && distances[current - 1] < 0 && !grid.isWallAt(current - 1)) {
+                distances[current - 1] = next;
+                queue[tail++] = current - 1;
+            }
+            if (x > 0 && distances[current - cols] < 0 && !grid.isWallAt(current - cols)) {
+                distances[current - cols] = next;
+                queue[tail++] = current - cols;
+            }
+        }
+        return new DistanceField(distances, sources, rows, cols);
+    }
+
+    // Sources triées et dédoublonnées : deux listes des mêmes cases donnent la même clé de cache
+    static int[] normalize(int[] sourceCells, int cells) {
+        if (sourceCells.length == 0) {
+            throw new IllegalArgumentException("Au moins une source est nécessaire");
+        }
+        int[] sorted = sourceCells.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] < 0 || sorted[sorted.length - 1] >= cells) {
+            throw new IllegalArgumentException("Source hors du labyrinthe");
+        }
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    // Distance de (x, y) à la source la plus proche, UNREACHABLE si aucune source n'y mène
+    public int distance(int x, int y) {
+        if (x < 0 || x >= rows || y < 0 || y >= cols) {
+            return UNREACHABLE;
+        }
+        return distances[x * cols + y];
+    }
+
+    public boolean isReachable(int x, int y) {
+        return distance(x, y) != UNREACHABLE;
+    }
+
+    // Plus court chemin de la source la plus proche jusqu'à (x, y), lu en descendant les distances
+    // (liste vide si la case n'est pas atteignable)
+    public List<int[]> pathTo(int x, int y) {
+        int d = distance(x, y);
+        if (d == UNREACHABLE) {
+            return new ArrayList<>();
+        }
+        List<int[]> path = new ArrayList<>(d + 1);
+        int current = x * cols + y;
+        path.add(new int[]{x, y});
+        while (d > 0) {
+            int cx = current / cols, cy = current - cx * cols;
+            d--;
+            // Voisin à distance d (droite, bas, gauche, haut) : il en existe toujours un
+            if (cy + 1 < cols && distances[current + 1] == d) {
+                current = current + 1;
+            } else if (cx + 1 < rows && distances[current + cols] == d) {
+                current = current + cols;
+            } else if (cy > 0 && distances[current - 1] == d) {
+                current = current - 1;
+            } else {
+                current = current - cols;
+            }
+            path.add(new int[]{current / cols, current % cols});
+        }
+        Collections.reverse(path); // Inverse le chemin pour aller de la source à la cible
+        return path;
+    }
+
+    // Copie des distances, indexées par x * cols + y
+    public int[] toArray() {
+        return distances.clone();
+    }
+
+    boolean hasSources(int[] normalizedSources) {
+        return Arrays.equals(sources, normalizedSources);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.labyrinthsolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Génération en flux par l'algorithme d'Eller : le labyrinthe est produit rangée par rangée et écrit au fur
+// et à mesure, sans jamais garder la grille. Seuls les ensembles de la rangée de salles en cours (cases de
+// coordonnées impaires, comme les autres générateurs) sont en mémoire : proportionnelle à la largeur.
+// Chaque rangée de salles relie au hasard des salles voisines d'ensembles différents, puis chaque ensemble
+// descend au moins une fois vers la rangée suivante ; la dernière rangée réunit tous les ensembles restants.
+// Le labyrinthe est parfait (un seul chemin entre deux salles), S en (1, 1) et E en (rows - 2, cols - 2).
+final class EllerMazeGenerator {
+    private static final double JOIN_CHANCE = 0.5; // Chance de relier deux salles voisines d'ensembles différents
+    private static final double DROP_CHANCE = 0.5; // Chance qu'une salle descende vers la rangée suivante
+    private static final int JOINED = 1 << 31; // Bit posé sur sets[c] : salle reliée à sa voisine de droite
+
+    // Reçoit les rangées de la grille dans l'ordre ; walls a un bit par colonne (1 = mur)
+    private interface RowSink {
+        void row(int x, long[] walls) throws IOException;
+    }
+
+    private final int rows, cols;
+    private final int roomRows, roomCols;
+    private final SplittableRandom random;
+    private final int[] sets; // Ensemble de chaque salle de la rangée en cours
+    private final int[] parent; // Union-find sur les numéros d'ensemble, remis à zéro à chaque rangée
+    private final int[] last; // Dernière colonne de salle de chaque ensemble dans la rangée
+    private final boolean[] dropped; // L'ensemble est déjà descendu dans la rangée
+    private final boolean[] down; // La salle descend vers la rangée suivante
+    private final int[] free; // Numéros d'ensemble libres pour la rangée suivante
+    private final long[] walls; // Rangée de grille en cours d'écriture
+
+    private EllerMazeGenerator(int rows, int cols, long seed) {
+        if (rows < 4 || cols < 4) {
+            // En dessous, S et E tomberaient sur la même case
+            throw new IllegalArgumentException("Labyrinthe trop petit : " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.roomRows = (rows - 1) / 2;
+        this.roomCols = (cols - 1) / 2;
+        this.random = new SplittableRandom(seed);
+        this.sets = new int[roomCols];
+        this.parent = new int[roomCols];
+        this.last = new int[roomCols];
+        this.dropped = new boolean[roomCols];
+        this.down = new boolean[roomCols];
+        this.free = new int[roomCols];
+        this.walls = new long[(cols + 63) >>> 6];
+    }
+
+    // Écrit le labyrinthe au format texte lu par loadFromFile ('#' mur, '=' chemin, 'S', 'E')
+    static void writeText(int rows, int cols, long seed, Writer out) throws IOException {
+        EllerMazeGenerator generator = new EllerMazeGenerator(rows, cols, seed);
+        char[] line = new char[cols + 1];
+        line[cols] = '\n';
+        generator.run((x, walls) -> {
+            for (int y = 0; y < cols; y++) {
+                line[y] = (walls[y >>> 6] & (1L << y)) != 0 ? '#' : '=';
+            }
+            if (x == 1) line[1] = 'S';
+            if (x == rows - 2) line[cols - 2] = 'E';
+            out.write(line);
+        });
+        out.flush();
+    }
+
+    // Écrit le labyrinthe au format binaire lu par loadBinary. Ce format, comme la grille en mémoire, est
+    // limité à Integer.MAX_VALUE cases ; au-delà, seul le texte convient.
+    static void writeBinary(int rows, int cols, long seed, Path path) throws IOException {
+        Grid.wordCount(rows, cols); // Refuse les dimensions que loadBinary ne pourrait pas relire
+        EllerMazeGenerator generator = new EllerMazeGenerator(rows, cols, seed);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            MazeFiles.writeFully(channel, MazeFiles.binaryHeader(rows, cols, 1, 1, rows - 2, cols - 2));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            LongBuffer longs = buffer.asLongBuffer();
+            // Les rangées se suivent sans alignement : les bits sont accumulés dans un mot de 64
+            long[] pending = {0L, 0L}; // {mot en cours, nombre de bits déjà remplis}
+            generator.run((x, walls) -> {
+                for (int y = 0; y < cols; y += 64) {
+                    int count = Math.min(64, cols - y);
+                    long bits = walls[y >>> 6];
+                    if (count < 64) {
+                        bits &= (1L << count) - 1;
+                    }
+                    int filled = (int) pending[1];
+                    pending[0] |= bits << filled;
+                    if (filled + count >= 64) {
+                        put(channel, buffer, longs, pending[0]);
+                        pending[0] = filled == 0 ? 0L : bits >>> (64 - filled);
+                        pending[1] = filled + count - 64;
+                    } else {
+                        pending[1] = filled + count;
+                    }
+                }
+            });
+            if (pending[1] > 0) {
+                put(channel, buffer, longs, pending[0]);
+            }
+            buffer.limit(longs.position() * Long.BYTES);
+            MazeFiles.writeFully(channel, buffer);
+        }
+    }
+
+    // Ajoute un mot au tampon, vidé dans le fichier quand il est plein
+    private static void put(FileChannel channel, ByteBuffer buffer, LongBuffer longs, long word) throws IOException {
+        if (!longs.hasRemaining()) {
+            buffer.position(0).limit(buffer.capacity());
+            MazeFiles.writeFully(channel, buffer);
+            buffer.clear();
+            longs.clear();
+        }
+        longs.put(word);
+    }
+
+    private void run(RowSink sink) throws IOException {
+        for (int c = 0; c < roomCols; c++) {
+            sets[c] = c; // Première rangée : chaque salle dans son propre ensemble
+        }
+        fillWalls();
+        sink.row(0, walls);
+        int x = 1;
+        for (int r = 0; r < roomRows; r++) {
+            boolean lastRow = r == roomRows - 1;
+            joinRooms(lastRow);
+            // Rangée des salles : salles ouvertes, murs de droite ouverts entre salles reliées
+            fillWalls();
+            for (int c = 0; c < roomCols; c++) {
+                open(2 * c + 1);
+                if (c + 1 < roomCols && (sets[c] & JOINED) != 0) {
+                    open(2 * c + 2);
+                }
+                sets[c] &= ~JOINED;
+            }
+            if (lastRow && x == rows - 2) {
+                openToEnd(2 * roomCols - 1); // La sortie est sur cette rangée, au bout ou juste après
+            }
+            sink.row(x++, walls);
+            // Rangée sous les salles : passages vers la rangée suivante
+            fillWalls();
+            if (!lastRow) {
+                dropRooms();
+                for (int c = 0; c < roomCols; c++) {
+                    if (down[c]) {
+                        open(2 * c + 1);
+                    }
+                }
+                renumber();
+            } else if (x == rows - 2) {
+                openToEnd(2 * roomCols - 1); // Hauteur paire : la sortie est sous la dernière salle
+            }
+            sink.row(x++, walls);
+        }
+        // Hauteur paire : dernière rangée de bord
+        fillWalls();
+        while (x < rows) {
+            sink.row(x++, walls);
+        }
+    }
+
+    // Relie des salles voisines d'ensembles différents (toutes sur la dernière rangée) ; laisse dans sets
+    // le numéro canonique de chaque salle et marque JOINED celles reliées à droite
+    private void joinRooms(boolean lastRow) {
+        for (int s = 0; s < roomCols; s++) {
+            parent[s] = s;
+        }
+        for (int c = 0; c + 1 < roomCols; c++) {
+            int a = find(sets[c]), b = find(sets[c + 1]);
+            if (a != b && (lastRow || random.nextDouble() < JOIN_CHANCE)) {
+                parent[b] = a;
+                sets[c] |= JOINED;
+            }
+        }
+        for (int c = 0; c < roomCols; c++) {
+            sets[c] = find(sets[c] & ~JOINED) | (sets[c] & JOINED);
+        }
+    }
+
+    private int find(int s) {
+        while (parent[s] != s) {
+            parent[s] = parent[parent[s]]; // Compression par moitié
+            s = parent[s];
+        }
+        return s;
+    }
+
+    // Choisit les salles qui descendent : au hasard, et la dernière salle d'un ensemble qui n'est pas
+    // encore descendu, pour que chaque ensemble continue sur la rangée suivante
+    private void dropRooms() {
+        for (int c = 0; c < roomCols; c++) {
+            last[sets[c]] = c;
+            dropped[sets[c]] = false;
+        }
+        for (int c = 0; c < roomCols; c++) {
+            int s = sets[c];
+            down[c] = random.nextDouble() < DROP_CHANCE || (last[s] == c && !dropped[s]);
+            dropped[s] |= down[c];
+        }
+    }
+
+    // Rangée suivante : les salles descendues gardent leur ensemble, les autres en prennent un neuf
+    private void renumber() {
+        boolean[] used = dropped; // Réutilisé : ensembles encore présents
+        Arrays.fill(used, false);
+        for (int c = 0; c < roomCols; c++) {
+            if (down[c]) {
+                used[sets[c]] = true;
+            }
+        }
+        int count = 0;
+        for (int s = 0; s < roomCols; s++) {
+            if (!used[s]) {
+                free[count++] = s;
+            }
+        }
+        for (int c = 0; c < roomCols; c++) {
+            if (!down[c]) {
+                sets[c] = free[--count];
+            }
+        }
+    }
+
+    // Ouvre les cases de la rangée en cours de la colonne from jusqu'à celle de E
+    private void openToEnd(int from) {
+        for (int y = from; y <= cols - 2; y++) {
+            open(y);
+        }
+    }
+
+    private void fillWalls() {
+        Arrays.fill(walls, -1L);
+    }
+
+    private void open(int y) {
+        walls[y >>> 6] &= ~(1L << y);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.labyrinthsolver;
+
+import java.util.Arrays;
+
+// Grille compacte du labyrinthe : un bit par case (1 = mur), rangée ligne par ligne dans un long[]
+public final class Grid implements CellGrid {
+    private final int rows, cols;
+    private final long[] walls; // Bit (x * cols + y) à 1 si la case (x, y) est un mur
+
+    // Crée une grille de taille donnée, entièrement murée ou entièrement ouverte
+    public Grid(int rows, int cols, boolean filledWithWalls) {
+        this(rows, cols, new long[wordCount(rows, cols)]);
+        if (filledWithWalls) {
+            fill(true);
+        }
+    }
+
+    // Crée une grille à partir d'un tableau de bits déjà rempli (utilisé par les chargeurs)
+    Grid(int rows, int cols, long[] walls) {
+        if (walls.length < wordCount(rows, cols)) {
+            throw new IllegalArgumentException("Tableau de bits trop petit pour " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = walls;
+    }
+
+    // Nombre de mots de 64 bits nécessaires pour stocker rows x cols cases
+    static int wordCount(int rows, int cols) {
+        long cells = (long) rows * cols;
+        if (rows < 0 || cols < 0 || cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensions invalides : " + rows + "x" + cols);
+        }
+        return (int) ((cells + 63) >>> 6);
+    }
+
+    // Construit une grille à partir de l'ancien format char[][] ('#' = mur, tout le reste est ouvert)
+    public static Grid fromChars(char[][] maze) {
+        int rows = maze.length;
+        int cols = rows == 0 ? 0 : maze[0].length;
+        Grid grid = new Grid(rows, cols, false);
+        for (int i = 0; i < rows; i++) {
+            char[] row = maze[i];
+            for (int j = 0; j < cols; j++) {
+                // Une ligne plus courte que la première est complétée par des murs
+                if (j >= row.length || row[j] == '#') {
+                    grid.setWall(i, j, true);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    // Indice linéaire de la case (x, y) en ordre ligne par ligne
+    @Override
+    public int index(int x, int y) {
+        return x * cols + y;
+    }
+
+    // Vérifie si la case (x, y) est dans les limites de la grille
+    @Override
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < rows && y >= 0 && y < cols;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return isWallAt(x * cols + y);
+    }
+
+    // Lecture directe par indice linéaire, sans repasser par (x, y)
+    @Override
+    public boolean isWallAt(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setWall(int x, int y, boolean wall) {
+        setWallAt(x * cols + y, wall);
+    }
+
+    public void setWallAt(int index, boolean wall) {
+        if (wall) {
+            walls[index >>> 6] |= 1L << index;
+        } else {
+            walls[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    // Remplit toute la grille de murs ou de cases ouvertes
+    public void fill(boolean wall) {
+        Arrays.fill(walls, wall ? -1L : 0L);
+        // Les bits au-delà de la dernière case restent à 0 pour que equals/hash restent stables
+        int tail = (int) (((long) rows * cols) & 63);
+        if (wall && tail != 0) {
+            walls[walls.length - 1] = (1L << tail) - 1;
+        }
+    }
+
+    // Copie indépendante de la grille
+    public Grid copy() {
+        return new Grid(rows, cols, walls.clone());
+    }
+
+    // Accès brut aux mots de bits (lecture seule par convention, pour les sérialiseurs)
+    long[] words() {
+        return walls;
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.labyrinthsolver;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Abstraction HPA* : la grille est découpée en clusters carrés. Sur chaque frontière entre deux clusters,
+// chaque suite de paires de cases ouvertes face à face donne une ou deux entrées (au milieu si la suite
+// est courte, aux deux bouts sinon). Chaque cluster garde ses entrées et la distance entre chaque paire
+// d'entrées par l'intérieur du cluster. Les clusters sont immuables et calculés en parallèle ;
+// après un changement de case, update() ne recalcule que les clusters touchés et partage les autres.
+public final class HierarchicalGraph {
+    public static final int DEFAULT_CLUSTER_SIZE = 32;
+    static final int UNREACHABLE = Character.MAX_VALUE; // Distance intra-cluster absente
+    private static final int MAX_CLUSTER_SIZE = 255; // Les distances intra-cluster tiennent sur un char
+    private static final int SINGLE_ENTRANCE_MAX_RUN = 5; // Au-delà, une entrée à chaque bout de la suite
+
+    final CellGrid grid;
+    final int clusterSize, clusterRows, clusterCols;
+    final Cluster[] clusters; // Rangés ligne par ligne
+    final int[] firstNode; // Numéro global du premier nœud de chaque cluster, plus le total en sentinelle
+    private final int rows, cols;
+
+    // Entrées d'un cluster et distances entre elles, sans référence à la grille
+    static final class Cluster {
+        final int[] nodes; // Cases (x * cols + y) des entrées, triées
+        final char[] distances; // distances[i * k + j] entre les entrées i et j, UNREACHABLE si aucune
+
+        Cluster(int[] nodes, char[] distances) {
+            this.nodes = nodes;
+            this.distances = distances;
+        }
+
+        int distance(int i, int j) {
+            return distances[i * nodes.length + j];
+        }
+    }
+
+    private HierarchicalGraph(CellGrid grid, int clusterSize, Cluster[] clusters) {
+        this.grid = grid;
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.clusterSize = clusterSize;
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+        this.clusters = clusters;
+        this.firstNode = new int[clusters.length + 1];
+        for (int c = 0; c < clusters.length; c++) {
+            firstNode[c + 1] = firstNode[c] + clusters[c].nodes.length;
+        }
+    }
+
+    // Construit tous les clusters, en parallèle (un cluster ne lit que ses cases et celles qui le bordent)
+    public static HierarchicalGraph build(CellGrid grid, int clusterSize) {
+        if (clusterSize < 8 || clusterSize > MAX_CLUSTER_SIZE) {
+            throw new IllegalArgumentException("Taille de cluster entre 8 et " + MAX_CLUSTER_SIZE + " : " + clusterSize);
+        }
+        int clusterRows = (grid.getRows() + clusterSize - 1) / clusterSize;
+        int clusterCols = (grid.getCols() + clusterSize - 1) / clusterSize;
+        Cluster[] clusters = new Cluster[clusterRows * clusterCols];
+        IntStream.range(0, clusters.length).parallel().forEach(c ->
+                clusters[c] = buildCluster(grid, clusterSize, c / clusterCols, c % clusterCols));
+        return new HierarchicalGraph(grid, clusterSize, clusters);
+    }
+
+    // Graphe de la grille modifiée en (x, y) : seuls le cluster de la case et, si elle est sur une
+    // frontière, le cluster d'en face sont recalculés
+    public HierarchicalGraph update(CellGrid changed, int x, int y) {
+        if (changed.getRows() != rows || changed.getCols() != cols) {
+            throw new IllegalArgumentException("La grille modifiée doit garder les mêmes dimensions");
+        }
+        Cluster[] next = clusters.clone();
+        int cr = x / clusterSize, cc = y / clusterSize;
+        int lx = x - cr * clusterSize, ly = y - cc * clusterSize;
+        rebuild(next, changed, cr, cc);
+        if (lx == 0 && cr > 0) rebuild(next, changed, cr - 1, cc);
+        if (lx == clusterSize - 1 && cr + 1 < clusterRows) rebuild(next, changed, cr + 1, cc);
+        if (ly == 0 && cc > 0) rebuild(next, changed, cr, cc - 1);
+        if (ly == clusterSize - 1 && cc + 1 < clusterCols) rebuild(next, changed, cr, cc + 1);
+        return new HierarchicalGraph(changed, clusterSize, next);
+    }
+
+    private void rebuild(Cluster[] next, CellGrid changed, int cr, int cc) {
+        next[cr * clusterCols + cc] = buildCluster(changed, clusterSize, cr, cc);
+    }
+
+    private static Cluster buildCluster(CellGrid grid, int size, int cr, int cc) {
+        int rows = grid.getRows(), cols = grid.getCols();
+        int x0 = cr * size, x1 = Math.min(x0 + size, rows);
+        int y0 = cc * size, y1 = Math.min(y0 + size, cols);
+        int[] nodes = new int[4 * size];
+        int count = 0;
+        // Frontières (haut, bas, gauche, droite) : case du cluster, case d'en face, pas le long de la frontière
+        if (x0 > 0) count = addEntrances(grid, x0 * cols + y0, (x0 - 1) * cols + y0, 1, y1 - y0, nodes, count);
+        if (x1 < rows) count = addEntrances(grid, (x1 - 1) * cols + y0, x1 * cols + y0, 1, y1 - y0, nodes, count);
+        if (y0 > 0) count = addEntrances(grid, x0 * cols + y0, x0 * cols + y0 - 1, cols, x1 - x0, nodes, count);
+        if (y1 < cols) count = addEntrances(grid, x0 * cols + y1 - 1, x0 * cols + y1, cols, x1 - x0, nodes, count);
+        // Une case de coin peut être une entrée sur deux frontières : on ne la garde qu'une fois
+        Arrays.sort(nodes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || nodes[i] != nodes[unique - 1]) {
+                nodes[unique++] = nodes[i];
+            }
+        }
+        nodes = Arrays.copyOf(nodes, unique);
+
+        char[] distances = new char[unique * unique];
+        int[] dist = new int[(x1 - x0) * (y1 - y0)];
+        int[] queue = new int[dist.length];
+        for (int i = 0; i < unique; i++) {
+            bfs(grid, x0, y0, x1, y1, nodes[i], dist, queue);
+            for (int j = 0; j < unique; j++) {
+                int x = nodes[j] / cols, y = nodes[j] % cols;
+                int d = dist[(x - x0) * (y1 - y0) + (y - y0)];
+                distances[i * unique + j] = (char) (d < 0 ? UNREACHABLE : d);
+            }
+        }
+        return new Cluster(nodes, distances);
+    }
+
+    // Parcourt la frontière : chaque suite de paires ouvertes donne une entrée au milieu, ou deux aux bouts
+    // si elle est longue. Le choix ne dépend que de la position le long de la frontière, donc les deux
+    // clusters voisins choisissent les mêmes paires.
+    private static int addEntrances(CellGrid grid, int inside, int outside, int step, int length,
+                                    int[] out, int count) {
+        int runStart = -1;
+        for (int k = 0; k <= length; k++) {
+            boolean open = k < length && !grid.isWallAt(inside + k * step) && !grid.isWallAt(outside + k * step);
+            if (open && runStart < 0) {
+                runStart = k;
+            } else if (!open && runStart >= 0) {
+                int run = k - runStart;
+                if (run <= SINGLE_ENTRANCE_MAX_RUN) {
+                    out[count++] = inside + (runStart + (run - 1) / 2) * step;
+                } else {
+                    out[count++] = inside + runStart * step;
+                    out[count++] = inside + (k - 1) * step;
+                }
+                runStart = -1;
+            }
+        }
+        return count;
+    }
+
+    // BFS limité au rectangle [x0, x1) x [y0, y1) depuis la case source (développée même si c'est un mur,
+    // comme le départ des solveurs). dist est indexé localement, -1 pour une case non atteinte.
+    static void bfs(CellGrid grid, int x0, int y0, int x1, int y1, int source, int[] dist, int[] queue) {
+        int cols = grid.getCols(), width = y1 - y0;
+        int area = (x1 - x0) * width;
+        Arrays.fill(dist, 0, area, -1);
+        int sx = source / cols, sy = source % cols;
+        int head = 0, tail = 0;
+        queue[tail++] = (sx - x0) * width + (sy - y0);
+        dist[queue[0]] = 0;
+        while (head < tail) {
+            int local = queue[head++];
+            int lx = local / width, ly = local - lx * width;
+            int cell = (x0 + lx) * cols + y0 + ly;
+            int next = dist[local] + 1;
+            // Voisins (droite, bas, gauche, haut)
+            if (ly + 1 < width && dist[local + 1] < 0 && !grid.isWallAt(cell + 1)) {
+                dist[local + 1] = next;
+                queue[tail++] = local + 1;
+            }
+            if (x0 + lx + 1 < x1 && dist[local + width] < 0 && !grid.isWallAt(cell + cols)) {
+                dist[local + width] = next;
+                queue[tail++] = local + width;
+            }
+            if (ly > 0 && dist[local - 1] < 0 && !grid.isWallAt(cell - 1)) {
+                dist[local - 1] = next;
+                queue[tail++] = local - 1;
+            }
+            if (lx > 0 && dist[local - width] < 0 && !grid.isWallAt(cell - cols)) {
+                dist[local - width] = next;
+                queue[tail++] = local - width;
+            }
+        }
+    }
+
+    // Cluster qui contient la case (x * cols + y)
+    int clusterOf(int cell) {
+        int x = cell / cols, y = cell - x * cols;
+        return (x / clusterSize) * clusterCols + y / clusterSize;
+    }
+
+    // Cluster du nœud global n
+    int clusterOfNode(int node) {
+        int c = Arrays.binarySearch(firstNode, node);
+        if (c < 0) {
+            return -c - 2;
+        }
+        while (firstNode[c + 1] == node) {
+            c++; // Clusters sans entrée : plusieurs débuts égaux, le nœud appartient au dernier
+        }
+        return c;
+    }
+
+    public int getNodeCount() {
+        return firstNode[clusters.length];
+    }
+
+    public int getClusterCount() {
+        return clusters.length;
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+}
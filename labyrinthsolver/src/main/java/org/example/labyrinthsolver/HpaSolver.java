@@ -0,0 +1,239 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Résolution hiérarchique HPA* : S et E sont reliés aux entrées de leur cluster, A* parcourt le graphe
+// abstrait des entrées (HierarchicalGraph), puis chaque tronçon retenu est affiné par un BFS limité à son
+// cluster. Seuls les clusters traversés sont relus case par case. Le chemin est valide mais peut être un
+// peu plus long que le plus court : il passe forcément par les entrées choisies sur chaque frontière.
+// Les étapes comptent les nœuds abstraits développés.
+public class HpaSolver implements Solver {
+    @Override
+    public String getName() {
+        return "HPA*";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+        if (trace != null) trace.phase(SolveTrace.PREPROCESS); // Abstraction, puis liaison de S et E
+        HierarchicalGraph graph = maze.hierarchicalGraph();
+        CellGrid grid = maze.getCells();
+        int cols = grid.getCols();
+        int endX = maze.getEndX(), endY = maze.getEndY();
+        int s = grid.index(maze.getStartX(), maze.getStartY());
+        int e = grid.index(endX, endY);
+        if (s == e) {
+            List<int[]> path = new ArrayList<>();
+            path.add(new int[]{endX, endY});
+            return new Labyrinth.SolveResult(path, 1, SolverSupport.elapsedMs(startTime), true);
+        }
+        if (grid.isWallAt(e)) {
+            return new Labyrinth.SolveResult(new ArrayList<>(), 0, SolverSupport.elapsedMs(startTime), false);
+        }
+
+        // Liaisons de S et de E avec les entrées de leur cluster (et S-E directement s'ils le partagent)
+        int area = graph.clusterSize * graph.clusterSize;
+        int[] dist = new int[area], queue = new int[area];
+        int sc = graph.clusterOf(s), ec = graph.clusterOf(e);
+        int[] fromStart = linkToEntrances(graph, sc, s, dist, queue);
+        int direct = sc == ec ? localDistance(graph, sc, e, dist) : -1;
+        int[] toEnd = linkToEntrances(graph, ec, e, dist, queue);
+
+        if (trace != null) trace.phase(SolveTrace.SEARCH);
+        int real = graph.getNodeCount();
+        int startNode = real, endNode = real + 1, nodes = real + 2;
+        int steps = 0; // Nombre de nœuds abstraits développés
+        SolverSupport.Scratch scratch = SolverSupport.scratch();
+        int[] cost = scratch.ints(0, nodes); // Coût du meilleur chemin connu depuis S
+        Arrays.fill(cost, 0, nodes, Integer.MAX_VALUE);
+        int[] parent = scratch.clearedInts(1, nodes); // parent[n] = nœud précédent + 1 (0 = aucun)
+        long[] closed = scratch.clearedLongs(0, (nodes + 63) >>> 6); // Nœuds définitivement traités
+        IndexedMinHeap open = new IndexedMinHeap(scratch.ints(2, nodes), scratch.longs(1, nodes),
+                scratch.clearedInts(3, nodes));
+        Search search = new Search(graph, cost, parent, closed, open, endX, endY, endNode);
+
+        cost[startNode] = 0;
+        parent[startNode] = startNode + 1;
+        open.push(startNode, search.priority(0, s));
+        if (trace != null) {
+            // Chemin partiel : nœud abstrait de la case (S ou une entrée), puis affinage comme pour E
+            trace.partialPath(maze, cell -> refine(graph, parent, startNode,
+                    cell == s ? startNode : nodeOf(graph, cell), s, cell, dist, queue));
+        }
+        while (!open.isEmpty()) {
+            if (trace != null) trace.frontier(open.size());
+            int current = open.poll();
+            if (trace != null && current != endNode) trace.expanded(current == startNode ? s : cellOf(graph, current));
+            closed[current >>> 6] |= 1L << current;
+            steps++;
+            if (current == endNode) {
+                if (trace != null) trace.phase(SolveTrace.RECONSTRUCT); // Affinage des tronçons
+                List<int[]> path = refine(graph, parent, startNode, endNode, s, e, dist, queue);
+                return new Labyrinth.SolveResult(path, steps, SolverSupport.elapsedMs(startTime), true);
+            }
+            int g = cost[current];
+            if (current == startNode) {
+                HierarchicalGraph.Cluster cluster = graph.clusters[sc];
+                for (int j = 0; j < fromStart.length; j++) {
+                    if (fromStart[j] >= 0) search.relax(current, graph.firstNode[sc] + j, cluster.nodes[j], g + fromStart[j]);
+                }
+                if (direct >= 0) search.relax(current, endNode, e, g + direct);
+                continue;
+            }
+            int c = graph.clusterOfNode(current);
+            HierarchicalGraph.Cluster cluster = graph.clusters[c];
+            int i = current - graph.firstNode[c];
+            // Arêtes internes au cluster
+            for (int j = 0; j < cluster.nodes.length; j++) {
+                int d = cluster.distance(i, j);
+                if (j != i && d != HierarchicalGraph.UNREACHABLE) {
+                    search.relax(current, graph.firstNode[c] + j, cluster.nodes[j], g + d);
+                }
+            }
+            if (c == ec && toEnd[i] >= 0) {
+                search.relax(current, endNode, e, g + toEnd[i]);
+            }
+            // Arêtes entre clusters : la case d'en face, si c'est une entrée de son cluster
+            int cell = cluster.nodes[i];
+            int x = cell / cols, y = cell - x * cols;
+            if (y + 1 < cols) search.crossing(current, cell + 1, c, g);
+            if (x + 1 < grid.getRows()) search.crossing(current, cell + cols, c, g);
+            if (y > 0) search.crossing(current, cell - 1, c, g);
+            if (x > 0) search.crossing(current, cell - cols, c, g);
+        }
+        return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+    }
+
+    // État d'une recherche abstraite
+    private static final class Search {
+        final HierarchicalGraph graph;
+        final int[] cost, parent;
+        final long[] closed;
+        final IndexedMinHeap open;
+        final int endX, endY, endNode, cols;
+
+        Search(HierarchicalGraph graph, int[] cost, int[] parent, long[] closed, IndexedMinHeap open,
+               int endX, int endY, int endNode) {
+            this.graph = graph;
+            this.cost = cost;
+            this.parent = parent;
+            this.closed = closed;
+            this.open = open;
+            this.endX = endX;
+            this.endY = endY;
+            this.endNode = endNode;
+            this.cols = graph.grid.getCols();
+        }
+
+        void crossing(int current, int neighborCell, int cluster, int g) {
+            int c = graph.clusterOf(neighborCell);
+            if (c == cluster) {
+                return;
+            }
+            int j = Arrays.binarySearch(graph.clusters[c].nodes, neighborCell);
+            if (j >= 0) {
+                relax(current, graph.firstNode[c] + j, neighborCell, g + 1);
+            }
+        }
+
+        void relax(int current, int next, int nextCell, int newCost) {
+            if ((closed[next >>> 6] & (1L << next)) != 0 || newCost >= cost[next]) {
+                return;
+            }
+            cost[next] = newCost;
+            parent[next] = current + 1;
+            open.push(next, priority(newCost, nextCell));
+        }
+
+        // Même ordre que BestFirstSolver : f = g + h, puis g le plus grand d'abord
+        long priority(int g, int cell) {
+            int x = cell / cols, y = cell - x * cols;
+            long h = Math.abs(x - endX) + Math.abs(y - endY);
+            return ((g + h) << 32) | (Integer.MAX_VALUE - g);
+        }
+    }
+
+    // Distances de la case à chaque entrée de son cluster (-1 si non atteinte) ; laisse le BFS dans dist
+    private static int[] linkToEntrances(HierarchicalGraph graph, int c, int cell, int[] dist, int[] queue) {
+        int[] bounds = bounds(graph, c);
+        HierarchicalGraph.bfs(graph.grid, bounds[0], bounds[1], bounds[2], bounds[3], cell, dist, queue);
+        int[] nodes = graph.clusters[c].nodes;
+        int[] links = new int[nodes.length];
+        for (int j = 0; j < nodes.length; j++) {
+            links[j] = localDistance(graph, c, nodes[j], dist);
+        }
+        return links;
+    }
+
+    private static int localDistance(HierarchicalGraph graph, int c, int cell, int[] dist) {
+        int[] bounds = bounds(graph, c);
+        int cols = graph.grid.getCols();
+        int x = cell / cols, y = cell % cols;
+        return dist[(x - bounds[0]) * (bounds[3] - bounds[1]) + (y - bounds[1])];
+    }
+
+    // Rectangle {x0, y0, x1, y1} du cluster c
+    private static int[] bounds(HierarchicalGraph graph, int c) {
+        int size = graph.clusterSize;
+        int x0 = (c / graph.clusterCols) * size, y0 = (c % graph.clusterCols) * size;
+        return new int[]{x0, y0, Math.min(x0 + size, graph.grid.getRows()), Math.min(y0 + size, graph.grid.getCols())};
+    }
+
+    // Remonte les nœuds abstraits depuis E, puis affine chaque tronçon en cases
+    private static List<int[]> refine(HierarchicalGraph graph, int[] parent, int startNode, int endNode,
+                                      int s, int e, int[] dist, int[] queue) {
+        List<Integer> cells = new ArrayList<>();
+        for (int node = endNode; node != startNode; node = parent[node] - 1) {
+            cells.add(node == endNode ? e : cellOf(graph, node));
+        }
+        cells.add(s);
+        Collections.reverse(cells);
+
+        int cols = graph.grid.getCols();
+        List<int[]> path = new ArrayList<>();
+        path.add(new int[]{s / cols, s % cols});
+        for (int k = 1; k < cells.size(); k++) {
+            int from = cells.get(k - 1), to = cells.get(k);
+            if (from == to) {
+                continue; // S ou E posé sur une entrée
+            }
+            int c = graph.clusterOf(from);
+            if (c != graph.clusterOf(to)) {
+                path.add(new int[]{to / cols, to % cols}); // Passage de frontière : cases voisines
+                continue;
+            }
+            // Tronçon interne : BFS depuis from dans le cluster, puis descente des distances depuis to
+            int[] b = bounds(graph, c);
+            int width = b[3] - b[1];
+            HierarchicalGraph.bfs(graph.grid, b[0], b[1], b[2], b[3], from, dist, queue);
+            List<int[]> segment = new ArrayList<>();
+            int lx = to / cols - b[0], ly = to % cols - b[1];
+            for (int d = dist[lx * width + ly]; d > 0; d--) {
+                segment.add(new int[]{b[0] + lx, b[1] + ly});
+                if (ly + 1 < width && dist[lx * width + ly + 1] == d - 1) ly++;
+                else if (b[0] + lx + 1 < b[2] && dist[(lx + 1) * width + ly] == d - 1) lx++;
+                else if (ly > 0 && dist[lx * width + ly - 1] == d - 1) ly--;
+                else lx--;
+            }
+            Collections.reverse(segment);
+            path.addAll(segment);
+        }
+        return path;
+    }
+
+    // Nœud abstrait d'une case d'entrée
+    private static int nodeOf(HierarchicalGraph graph, int cell) {
+        int c = graph.clusterOf(cell);
+        return graph.firstNode[c] + Arrays.binarySearch(graph.clusters[c].nodes, cell);
+    }
+
+    private static int cellOf(HierarchicalGraph graph, int node) {
+        int c = graph.clusterOfNode(node);
+        return graph.clusters[c].nodes[node - graph.firstNode[c]];
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.labyrinthsolver;
+
+// Tas binaire minimum sur tableaux primitifs, indexé par case pour permettre la diminution de priorité
+final class IndexedMinHeap {
+    private final int[] heap; // Cases rangées en tas
+    private final long[] keys; // Priorité de chaque emplacement du tas
+    private final int[] position; // position[case] = emplacement dans le tas + 1 (0 = absente)
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this(new int[capacity], new long[capacity], new int[capacity]);
+    }
+
+    // Tas sur des tableaux fournis (réutilisés) : position doit être à zéro sur toutes les cases
+    IndexedMinHeap(int[] heap, long[] keys, int[] position) {
+        this.heap = heap;
+        this.keys = keys;
+        this.position = position;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int cell) {
+        return position[cell] != 0;
+    }
+
+    // Insère la case, ou diminue sa priorité si elle est déjà présente avec une priorité plus grande
+    void push(int cell, long key) {
+        int slot = position[cell] - 1;
+        if (slot < 0) {
+            slot = size++;
+        } else if (key >= keys[slot]) {
+            return;
+        }
+        siftUp(slot, cell, key);
+    }
+
+    long peekKey() {
+        return keys[0];
+    }
+
+    // Retire la case si elle est présente (utilisé quand une priorité doit augmenter)
+    void remove(int cell) {
+        int slot = position[cell] - 1;
+        if (slot < 0) {
+            return;
+        }
+        position[cell] = 0;
+        size--;
+        if (slot == size) {
+            return;
+        }
+        int lastCell = heap[size];
+        long lastKey = keys[size];
+        if (slot > 0 && lastKey < keys[(slot - 1) >>> 1]) {
+            siftUp(slot, lastCell, lastKey);
+        } else {
+            siftDown(slot, lastCell, lastKey);
+        }
+    }
+
+    // Retire et renvoie la case de plus petite priorité
+    int poll() {
+        int min = heap[0];
+        position[min] = 0;
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size], keys[size]);
+        }
+        return min;
+    }
+
+    private void siftUp(int slot, int cell, long key) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(slot, heap[parent], keys[parent]);
+            slot = parent;
+        }
+        place(slot, cell, key);
+    }
+
+    private void siftDown(int slot, int cell, long key) {
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(slot, heap[child], keys[child]);
+            slot = child;
+        }
+        place(slot, cell, key);
+    }
+
+    private void place(int slot, int cell, long key) {
+        heap[slot] = cell;
+        keys[slot] = key;
+        position[cell] = slot + 1;
+    }
+}
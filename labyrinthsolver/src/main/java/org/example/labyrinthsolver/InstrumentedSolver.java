@@ -0,0 +1,65 @@
+package org.example.labyrinthsolver;
+
+import java.lang.management.ManagementFactory;
+
+// Résout avec un autre solveur en relevant ses mesures (SolveMetrics) et en les cumulant dans un
+// MetricsRegistry. Les octets alloués sont ceux du thread qui résout : le travail confié à d'autres
+// threads (ParallelBfsSolver) n'y figure pas. Sans cette enveloppe, les solveurs ne mesurent rien.
+public class InstrumentedSolver implements Solver {
+    // Compteur d'allocations par thread de HotSpot, null si la JVM ne le fournit pas
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final Solver solver;
+    private final MetricsRegistry registry;
+
+    public InstrumentedSolver(Solver solver, MetricsRegistry registry) {
+        this.solver = solver;
+        this.registry = registry;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return solver.getName();
+    }
+
+    @Override
+    public String cacheKey() {
+        return solver.cacheKey();
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        return measure(maze, 0).getResult();
+    }
+
+    // Résout et renvoie les mesures ; loadMs est le temps de chargement mesuré par l'appelant
+    public SolveMetrics measure(MazeSnapshot maze, double loadMs) {
+        long allocatedBefore = THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+        SolveTrace trace = SolveTrace.start();
+        Labyrinth.SolveResult result;
+        try {
+            result = solver.solve(maze);
+        } finally {
+            trace.stop();
+        }
+        long allocated = THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        SolveMetrics metrics = new SolveMetrics(getName(), result, trace.getPeakFrontier(), allocated, loadMs,
+                trace.nanos(SolveTrace.PREPROCESS) / 1_000_000.0, trace.nanos(SolveTrace.SEARCH) / 1_000_000.0,
+                trace.nanos(SolveTrace.RECONSTRUCT) / 1_000_000.0);
+        registry.record(metrics);
+        return metrics;
+    }
+
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+}
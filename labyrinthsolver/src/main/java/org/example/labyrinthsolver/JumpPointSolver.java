@@ -0,0 +1,194 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Résolution par Jump Point Search adaptée aux grilles 4-connexes.
+// Parmi les plus courts chemins équivalents, on garde ceux qui tournent vers la verticale le plus tôt
+// possible : un déplacement horizontal ne tourne que si la case d'avant bloque ce virage (voisin forcé),
+// un déplacement vertical peut toujours tourner. Les lignes droites sans décision sont sautées d'un coup,
+// et A* (distance de Manhattan) ne développe que les points de saut. Les étapes comptent ces points.
+public class JumpPointSolver implements Solver {
+    private static final int RIGHT = 0, DOWN = 1, LEFT = 2, UP = 3;
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {1, 0, -1, 0};
+    private static final int FROM_START = 1 << 4; // Le départ essaie les 4 directions
+
+    @Override
+    public String getName() {
+        return "JPS";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        return new Search(maze).run();
+    }
+
+    // État d'une résolution : le solveur lui-même reste sans état
+    private static final class Search {
+        private final MazeSnapshot maze;
+        private final CellGrid grid;
+        private final int rows, cols, endX, endY;
+
+        Search(MazeSnapshot maze) {
+            this.maze = maze;
+            this.grid = maze.getCells();
+            this.rows = grid.getRows();
+            this.cols = grid.getCols();
+            this.endX = maze.getEndX();
+            this.endY = maze.getEndY();
+        }
+
+        Labyrinth.SolveResult run() {
+            long startTime = System.nanoTime(); // Mesure le temps de début
+            SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+            int cells = rows * cols;
+            int start = grid.index(maze.getStartX(), maze.getStartY());
+            int end = grid.index(endX, endY);
+
+            int steps = 0; // Points de saut développés
+            // Tableaux de travail du thread : entiers 0 à 3, long 1, octets 0 et 1
+            SolverSupport.Scratch scratch = SolverSupport.scratch();
+            int[] cost = scratch.ints(0, cells);
+            Arrays.fill(cost, 0, cells, Integer.MAX_VALUE);
+            // parent[i] = point de saut précédent + 1 ; seules les cases atteintes sont lues, pas de remise à zéro
+            int[] parent = scratch.ints(1, cells);
+            // Directions d'arrivée ayant donné le meilleur coût, et celles déjà développées :
+            // une case atteinte à coût égal par une autre direction est redéveloppée pour cette direction
+            byte[] arrivals = scratch.clearedBytes(0, cells);
+            byte[] expanded = scratch.clearedBytes(1, cells);
+            IndexedMinHeap open = new IndexedMinHeap(scratch.ints(2, cells), scratch.longs(1, cells),
+                    scratch.clearedInts(3, cells));
+
+            cost[start] = 0;
+            parent[start] = start + 1;
+            arrivals[start] = FROM_START;
+            open.push(start, priority(0, start));
+            if (trace != null) trace.partialPath(maze, cell -> expandPath(parent, start, cell));
+
+            while (!open.isEmpty()) {
+                if (trace != null) trace.frontier(open.size());
+                int current = open.poll();
+                if (trace != null) trace.expanded(current);
+                int pending = arrivals[current] & ~expanded[current];
+                expanded[current] |= (byte) pending;
+                steps++;
+
+                if (current == end) {
+                    if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+                    return new Labyrinth.SolveResult(expandPath(parent, start, end), steps,
+                            SolverSupport.elapsedMs(startTime), true);
+                }
+
+                int x = current / cols, y = current - x * cols;
+                int directions = successorDirections(x, y, pending);
+                for (int dir = 0; dir < 4; dir++) {
+                    if ((directions & (1 << dir)) == 0) {
+                        continue;
+                    }
+                    int jumpPoint = (dir == RIGHT || dir == LEFT) ? jumpHorizontal(x, y, DY[dir]) : jumpVertical(x, y, DX[dir]);
+                    if (jumpPoint < 0) {
+                        continue;
+                    }
+                    int jx = jumpPoint / cols, jy = jumpPoint - jx * cols;
+                    int newCost = cost[current] + Math.abs(jx - x) + Math.abs(jy - y);
+                    if (newCost < cost[jumpPoint]) {
+                        cost[jumpPoint] = newCost;
+                        parent[jumpPoint] = current + 1;
+                        arrivals[jumpPoint] = (byte) (1 << dir);
+                        expanded[jumpPoint] = 0;
+                        open.push(jumpPoint, priority(newCost, jumpPoint));
+                    } else if (newCost == cost[jumpPoint] && (arrivals[jumpPoint] & (1 << dir)) == 0) {
+                        arrivals[jumpPoint] |= (byte) (1 << dir);
+                        open.push(jumpPoint, priority(newCost, jumpPoint));
+                    }
+                }
+            }
+            return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+        }
+
+        // Directions à explorer depuis (x, y) selon les directions d'arrivée (règles d'élagage ci-dessus)
+        private int successorDirections(int x, int y, int arrivalMask) {
+            if ((arrivalMask & FROM_START) != 0) {
+                return 0b1111;
+            }
+            int directions = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                if ((arrivalMask & (1 << dir)) == 0) {
+                    continue;
+                }
+                directions |= 1 << dir; // On peut toujours continuer tout droit
+                if (dir == DOWN || dir == UP) {
+                    directions |= (1 << RIGHT) | (1 << LEFT);
+                } else {
+                    int dy = DY[dir];
+                    if (isOpen(x + 1, y) && !isOpen(x + 1, y - dy)) directions |= 1 << DOWN;
+                    if (isOpen(x - 1, y) && !isOpen(x - 1, y - dy)) directions |= 1 << UP;
+                }
+            }
+            return directions;
+        }
+
+        // Avance horizontalement jusqu'à la sortie, un voisin vertical forcé ou un mur (-1)
+        private int jumpHorizontal(int x, int y, int dy) {
+            while (true) {
+                y += dy;
+                if (!isOpen(x, y)) {
+                    return -1;
+                }
+                if (x == endX && y == endY) {
+                    return grid.index(x, y);
+                }
+                if ((isOpen(x + 1, y) && !isOpen(x + 1, y - dy)) || (isOpen(x - 1, y) && !isOpen(x - 1, y - dy))) {
+                    return grid.index(x, y);
+                }
+            }
+        }
+
+        // Avance verticalement ; s'arrête sur la sortie ou là où un saut horizontal trouve un point de saut
+        private int jumpVertical(int x, int y, int dx) {
+            while (true) {
+                x += dx;
+                if (!isOpen(x, y)) {
+                    return -1;
+                }
+                if (x == endX && y == endY) {
+                    return grid.index(x, y);
+                }
+                if (jumpHorizontal(x, y, 1) >= 0 || jumpHorizontal(x, y, -1) >= 0) {
+                    return grid.index(x, y);
+                }
+            }
+        }
+
+        private boolean isOpen(int x, int y) {
+            return x >= 0 && x < rows && y >= 0 && y < cols && !grid.isWall(x, y);
+        }
+
+        // Même priorité que A* : f sur les bits de poids fort, puis g le plus grand d'abord
+        private long priority(int g, int cell) {
+            int x = cell / cols, y = cell - x * cols;
+            long f = g + Math.abs(x - endX) + Math.abs(y - endY);
+            return (f << 32) | (Integer.MAX_VALUE - g);
+        }
+
+        // Déplie les segments droits entre points de saut en chemin case par case
+        private List<int[]> expandPath(int[] parent, int start, int end) {
+            List<int[]> jumpPoints = SolverSupport.reconstructPath(parent, start, end, cols);
+            List<int[]> path = new ArrayList<>();
+            path.add(jumpPoints.get(0));
+            for (int i = 1; i < jumpPoints.size(); i++) {
+                int[] from = jumpPoints.get(i - 1), to = jumpPoints.get(i);
+                int sx = Integer.signum(to[0] - from[0]), sy = Integer.signum(to[1] - from[1]);
+                for (int x = from[0] + sx, y = from[1] + sy; ; x += sx, y += sy) {
+                    path.add(new int[]{x, y});
+                    if (x == to[0] && y == to[1]) {
+                        break;
+                    }
+                }
+            }
+            return path;
+        }
+    }
+}
@@ -1,30 +1,95 @@
 package org.example.labyrinthsolver;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-// Classe principale pour gérer la logique du labyrinthe (génération, chargement, résolution)
+// Classe principale pour gérer la logique du labyrinthe (génération, chargement, résolution).
+// La génération et les chargements sont synchronisés et publient à la fin un MazeSnapshot immuable :
+// les résolutions et les getters lisent cet instantané sans verrou, y compris pendant qu'un autre thread
+// génère. Les champs ci-dessous ne sont lus et écrits que sous le verrou.
 public class Labyrinth {
-    private char[][] maze; //
-    private int rows, cols; //
+    private Grid grid; // Grille compacte (un bit par case), null si le labyrinthe est tuilé
+    private CellGrid cells; // Grille lue par les solveurs : grid, ou une TiledGrid sur fichier
+    private char[][] mazeView; // Export char[][] construit à la demande par getMaze()
     private int startX, startY, endX, endY;
-    private Random random = new Random(); // Générateur de nombres aléatoires
+    private final Random random = new Random(); // Générateur des labyrinthes sans graine
+    private volatile MazeSnapshot snapshot; // Dernier état complet publié, lu par les solveurs
+    private final List<MazeListener> listeners = new CopyOnWriteArrayList<>(); // Prévenus à chaque publication
 
     // Constructeur qui initialise le labyrinthe avec un tableau donné
     public Labyrinth(char[][] maze) {
         if (maze != null) {
-            this.maze = maze;
-            this.rows = maze.length;
-            this.cols = maze[0].length;
-            findStartAndEnd(); // Recherche des positions de départ et de sortie
+            setGrid(Grid.fromChars(maze));
+            findStartAndEnd(maze); // Recherche des positions de départ et de sortie
+            publish();
         }
     }
 
+    // Remplace la grille courante et invalide l'export char[][]
+    private void setGrid(Grid grid) {
+        this.grid = grid;
+        setCells(grid);
+    }
+
+    private void setCells(CellGrid cells) {
+        this.cells = cells;
+        this.mazeView = null;
+    }
+
+    // Publie l'état courant ; la grille publiée ne doit plus être modifiée ensuite
+    private void publish() {
+        MazeSnapshot maze = new MazeSnapshot(cells, startX, startY, endX, endY);
+        snapshot = maze;
+        for (MazeListener listener : listeners) {
+            listener.mazeReplaced(maze);
+        }
+    }
+
+    // Les observateurs sont appelés sur le thread qui modifie le labyrinthe, sous son verrou
+    public void addMazeListener(MazeListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removeMazeListener(MazeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Pose ou retire un mur en (x, y). La grille publiée est copiée puis remplacée (copie sur écriture) :
+    // les instantanés déjà distribués ne changent pas. Sans effet si la case est déjà dans cet état.
+    public synchronized void setWall(int x, int y, boolean wall) {
+        if (grid == null) {
+            throw new IllegalStateException(cells == null
+                    ? "Aucun labyrinthe chargé ou généré" : "Labyrinthe tuilé : lecture seule");
+        }
+        if (!grid.inBounds(x, y)) {
+            throw new IllegalArgumentException("Case hors du labyrinthe : (" + x + ", " + y + ")");
+        }
+        if (grid.isWall(x, y) == wall) {
+            return;
+        }
+        Grid next = grid.copy();
+        next.setWall(x, y, wall);
+        setGrid(next);
+        MazeSnapshot maze = new MazeSnapshot(cells, startX, startY, endX, endY);
+        maze.inheritHierarchy(snapshot, x, y);
+        snapshot = maze;
+        for (MazeListener listener : listeners) {
+            listener.cellChanged(maze, x, y);
+        }
+    }
+
+    // Ouvre la case (x, y)
+    public void clearCell(int x, int y) {
+        setWall(x, y, false);
+    }
+
     // Recherche les positions de départ ('S') et de sortie ('E') dans le labyrinthe
-    private void findStartAndEnd() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
+    private void findStartAndEnd(char[][] maze) {
+        for (int i = 0; i < maze.length; i++) {
+            for (int j = 0; j < maze[i].length; j++) {
                 if (maze[i][j] == 'S') {
                     startX = i;
                     startY = j;
@@ -36,257 +101,163 @@ public class Labyrinth {
         }
     }
 
-    // Charge un labyrinthe depuis un fichier texte
-    public void loadFromFile(String filename) {
-        List<char[]> lines = new ArrayList<>(); // Liste pour stocker les lignes du fichier
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                lines.add(line.toCharArray()); // Ajoute chaque ligne sous forme de tableau de caractères
-            }
-        } catch (Exception e) {
-            e.printStackTrace(); // Affiche les erreurs en cas de problème de lecture
-        }
-        this.maze = new char[lines.size()][];
-        for (int i = 0; i < lines.size(); i++) {
-            this.maze[i] = lines.get(i); // Convertit la liste en tableau 2D
-        }
-        this.rows = maze.length;
-        this.cols = maze[0].length;
-        findStartAndEnd(); // Met à jour les positions de départ et de sortie
+    // Charge un labyrinthe depuis un fichier texte (projeté en mémoire, S et E relevés en une seule passe)
+    // ou depuis un fichier binaire, reconnu à sa signature
+    public void loadFromFile(String filename) throws IOException {
+        Path path = Path.of(filename);
+        apply(MazeFiles.isBinary(path) ? MazeFiles.readBinary(path) : MazeFiles.readText(path));
     }
 
-    // Génère un labyrinthe aléatoire de taille donnée
-    public void generateRandomMaze(int rows, int cols) {
-        this.rows = rows;
-        this.cols = cols;
-        this.maze = new char[rows][cols];
-
-        // Remplit le labyrinthe de murs ('#')
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                maze[i][j] = '#';
-            }
-        }
-
-        // Étape 1 : Génère un labyrinthe de base avec Recursive Backtracking
-        recursiveBacktracking(1, 1);
-
-        // Étape 2 : Ajoute des motifs complexes, chemins alternatifs, impasses et îlots
-        addComplexity();
-
-        // Place le départ (S) et la sortie (E) aux positions fixes
-        maze[1][1] = 'S';
-        maze[rows - 2][cols - 2] = 'E'; // Pour 19x19, E sera à (17,17)
+    // Charge un labyrinthe au format binaire compact (voir MazeFiles)
+    public void loadBinary(String filename) throws IOException {
+        apply(MazeFiles.readBinary(Path.of(filename)));
+    }
 
-        findStartAndEnd(); // Met à jour les positions de départ et de sortie
+    // Sauvegarde le labyrinthe au format binaire compact : un bit par case
+    public void saveBinary(String filename) throws IOException {
+        MazeFiles.writeBinary(Path.of(filename), toData());
     }
 
-    // Algorithme Recursive Backtracking pour générer un labyrinthe de base
-    private void recursiveBacktracking(int x, int y) {
-        maze[x][y] = '='; // Ouvre une case (chemin)
+    // Sauvegarde le labyrinthe au format texte lu par loadFromFile
+    public void saveToTextFile(String filename) throws IOException {
+        MazeFiles.writeText(Path.of(filename), toData());
+    }
 
-        // Liste des directions possibles (haut, droite, bas, gauche)
-        int[][] directions = {{-2, 0}, {0, 2}, {2, 0}, {0, -2}};
-        // Mélange les directions pour un résultat aléatoire
-        List<int[]> shuffledDirections = new ArrayList<>(Arrays.asList(directions));
-        Collections.shuffle(shuffledDirections, random);
+    // Convertit un fichier texte en fichier binaire
+    public static void convertTextToBinary(String textFile, String binaryFile) throws IOException {
+        MazeFiles.writeBinary(Path.of(binaryFile), MazeFiles.readText(Path.of(textFile)));
+    }
 
-        for (int[] dir : shuffledDirections) {
-            int newX = x + dir[0];
-            int newY = y + dir[1];
+    // Convertit un fichier binaire en fichier texte
+    public static void convertBinaryToText(String binaryFile, String textFile) throws IOException {
+        MazeFiles.writeText(Path.of(textFile), MazeFiles.readBinary(Path.of(binaryFile)));
+    }
 
-            // Vérifie si la nouvelle position est dans les limites et est un mur
-            if (newX > 0 && newX < rows - 1 && newY > 0 && newY < cols - 1 && maze[newX][newY] == '#') {
-                // Ouvre le mur entre la position actuelle et la nouvelle position
-                maze[x + dir[0] / 2][y + dir[1] / 2] = '=';
-                recursiveBacktracking(newX, newY); // Récursion sur la nouvelle position
-            }
+    // Ouvre un labyrinthe tuilé : la grille reste dans le fichier et au plus maxResidentTiles tuiles
+    // sont gardées en mémoire. L'affichage, les solveurs et hasPath() lisent la grille tuilée, mais les
+    // solveurs et l'index des composantes gardent leur état dans le tas (voir TiledGrid). La modification
+    // des murs demande une grille en mémoire (getGrid() renvoie null dans ce mode).
+    public void loadTiled(String filename, int maxResidentTiles) throws IOException {
+        TiledGrid tiled = TiledGrid.open(Path.of(filename), maxResidentTiles);
+        synchronized (this) {
+            grid = null;
+            setCells(tiled);
+            startX = tiled.getStartX();
+            startY = tiled.getStartY();
+            endX = tiled.getEndX();
+            endY = tiled.getEndY();
+            publish();
         }
     }
 
-    // Ajoute des motifs complexes, chemins alternatifs, impasses et îlots
-    private void addComplexity() {
-        // Étape 1 : Ajoute des motifs complexes (croix, T, spirales)
-        addComplexPatterns();
-
-        // Étape 2 : Ouvre des murs aléatoires pour créer des chemins alternatifs
-        for (int i = 1; i < rows - 1; i++) {
-            for (int j = 1; j < cols - 1; j++) {
-                if (maze[i][j] == '#' && random.nextDouble() < 0.5) { // 50% de chance d'ouvrir un mur
-                    // Ouvre si au moins un voisin est un chemin
-                    int openNeighbors = 0;
-                    if (i > 0 && maze[i - 1][j] == '=') openNeighbors++;
-                    if (i < rows - 1 && maze[i + 1][j] == '=') openNeighbors++;
-                    if (j > 0 && maze[i][j - 1] == '=') openNeighbors++;
-                    if (j < cols - 1 && maze[i][j + 1] == '=') openNeighbors++;
-                    if (openNeighbors >= 1) {
-                        maze[i][j] = '=';
-                    }
-                }
-            }
-        }
+    // Sauvegarde le labyrinthe dans un fichier de tuiles de tileSize x tileSize cases
+    public void saveTiled(String filename, int tileSize) throws IOException {
+        MazeSnapshot maze = snapshot();
+        TiledGrid.write(Path.of(filename), maze.getCells(), maze.getStartX(), maze.getStartY(),
+                maze.getEndX(), maze.getEndY(), tileSize);
+    }
 
-        // Étape 3 : Ajoute des impasses longues
-        for (int i = 1; i < rows - 1; i++) {
-            for (int j = 1; j < cols - 1; j++) {
-                if (maze[i][j] == '=' && random.nextDouble() < 0.2) { // 20% de chance de creuser une impasse
-                    createLongDeadEnd(i, j);
-                }
-            }
-        }
+    // Convertit un fichier texte en fichier de tuiles, par bandes, sans charger toute la grille
+    public static void convertTextToTiled(String textFile, String tiledFile, int tileSize) throws IOException {
+        TiledGrid.convertText(Path.of(textFile), Path.of(tiledFile), tileSize);
+    }
 
-        // Étape 4 : Ajoute des îlots de murs
-        addWallIslands();
+    // Remplace le labyrinthe courant par un labyrinthe chargé (le fichier est lu hors du verrou)
+    private synchronized void apply(MazeFiles.MazeData data) {
+        setGrid(data.grid);
+        startX = data.startX;
+        startY = data.startY;
+        endX = data.endX;
+        endY = data.endY;
+        publish();
+    }
 
-        // Étape 5 : Vérifie que S et E sont toujours connectés
-        if (!isPathExists(1, 1, rows - 2, cols - 2)) {
-            // Si S et E ne sont plus connectés, ouvre un chemin direct (sécurité)
-            ensurePath(1, 1, rows - 2, cols - 2);
+    private MazeFiles.MazeData toData() {
+        MazeSnapshot maze = snapshot();
+        if (!(maze.getCells() instanceof Grid memoryGrid)) {
+            throw new IllegalStateException("Labyrinthe tuilé : utilisez saveTiled");
         }
+        return new MazeFiles.MazeData(memoryGrid, maze.getStartX(), maze.getStartY(), maze.getEndX(), maze.getEndY());
     }
 
-    // Ajoute des motifs complexes (croix, T, spirales)
-    private void addComplexPatterns() {
-        int numPatterns = random.nextInt(5) + 3; // Entre 3 et 7 motifs
-        for (int p = 0; p < numPatterns; p++) {
-            int patternX = random.nextInt(rows - 6) + 3; // Évite les bords
-            int patternY = random.nextInt(cols - 6) + 3;
-            int patternType = random.nextInt(3); // 0: croix, 1: T, 2: spirale
-
-            switch (patternType) {
-                case 0: // Motif en croix
-                    if (isSafeToDrawPattern(patternX, patternY, 3, 3)) {
-                        maze[patternX][patternY] = '=';
-                        maze[patternX][patternY - 1] = '=';
-                        maze[patternX][patternY + 1] = '=';
-                        maze[patternX - 1][patternY] = '=';
-                        maze[patternX + 1][patternY] = '=';
-                    }
-                    break;
-                case 1: // Motif en T
-                    if (isSafeToDrawPattern(patternX, patternY, 2, 3)) {
-                        maze[patternX][patternY - 1] = '=';
-                        maze[patternX][patternY] = '=';
-                        maze[patternX][patternY + 1] = '=';
-                        maze[patternX + 1][patternY] = '=';
-                    }
-                    break;
-                case 2: // Motif en spirale
-                    if (isSafeToDrawPattern(patternX, patternY, 4, 4)) {
-                        maze[patternX][patternY] = '=';
-                        maze[patternX][patternY + 1] = '=';
-                        maze[patternX + 1][patternY + 1] = '=';
-                        maze[patternX + 1][patternY] = '=';
-                        maze[patternX + 1][patternY - 1] = '=';
-                        maze[patternX + 2][patternY - 1] = '=';
-                        maze[patternX + 2][patternY] = '=';
-                        maze[patternX + 2][patternY + 1] = '=';
-                        maze[patternX + 3][patternY + 1] = '=';
-                    }
-                    break;
-            }
-        }
+    // Génère un labyrinthe reproductible : la même graine donne toujours le même labyrinthe. Le générateur
+    // de la graine ne sert qu'à cet appel : les appels sans graine qui suivent restent aléatoires.
+    public void generateRandomMaze(int rows, int cols, long seed) {
+        publishGenerated(BacktrackingMazeGenerator.generate(rows, cols, new Random(seed)));
     }
 
-    // Vérifie si on peut dessiner un motif à une position donnée
-    private boolean isSafeToDrawPattern(int x, int y, int height, int width) {
-        if (x < 1 || y < 1 || x + height >= rows - 1 || y + width >= cols - 1) {
-            return false;
-        }
-        return true;
-    }
-
-    // Creuse une impasse longue à partir d'une position
-    private void createLongDeadEnd(int x, int y) {
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        List<int[]> shuffledDirections = new ArrayList<>(Arrays.asList(directions));
-        Collections.shuffle(shuffledDirections, random);
-
-        for (int[] dir : shuffledDirections) {
-            int newX = x, newY = y;
-            int length = random.nextInt(3) + 2; // Impasse de longueur 2 à 4
-            boolean canExtend = true;
-
-            // Creuse dans une direction sur plusieurs cases
-            for (int i = 0; i < length; i++) {
-                newX += dir[0];
-                newY += dir[1];
-                if (newX <= 0 || newX >= rows - 1 || newY <= 0 || newY >= cols - 1 || maze[newX][newY] == '=') {
-                    canExtend = false;
-                    break;
-                }
-            }
+    // Écrit un labyrinthe reproductible rangée par rangée (algorithme d'Eller) au format texte, sans le
+    // garder en mémoire : la mémoire utilisée ne dépend que de la largeur. Le labyrinthe courant ne change pas.
+    public static void generateStreamingMaze(int rows, int cols, long seed, Writer out) throws IOException {
+        EllerMazeGenerator.writeText(rows, cols, seed, out);
+    }
 
-            if (canExtend) {
-                newX = x;
-                newY = y;
-                for (int i = 0; i < length; i++) {
-                    newX += dir[0];
-                    newY += dir[1];
-                    maze[newX][newY] = '=';
-                }
-                break;
-            }
-        }
+    // Même labyrinthe que generateStreamingMaze, écrit au format binaire (au plus Integer.MAX_VALUE cases)
+    public static void generateStreamingMazeBinary(int rows, int cols, long seed, String binaryFile)
+            throws IOException {
+        EllerMazeGenerator.writeBinary(rows, cols, seed, Path.of(binaryFile));
     }
 
-    // Ajoute des îlots de murs pour forcer des détours
-    private void addWallIslands() {
-        int numIslands = random.nextInt(5) + 3; // Entre 3 et 7 îlots
-        for (int i = 0; i < numIslands; i++) {
-            int islandX = random.nextInt(rows - 4) + 2;
-            int islandY = random.nextInt(cols - 4) + 2;
-            if (maze[islandX][islandY] == '=' && isSafeToDrawPattern(islandX, islandY, 2, 2)) {
-                maze[islandX][islandY] = '#';
-                if (random.nextBoolean()) {
-                    maze[islandX + 1][islandY] = '#';
-                    maze[islandX][islandY + 1] = '#';
-                }
-            }
-        }
+    // Génère en parallèle un grand labyrinthe reproductible (TiledMazeGenerator) : tuiles creusées sur
+    // plusieurs cœurs puis reliées entre elles. La même graine donne le même labyrinthe quel que soit le
+    // nombre de threads, mais pas le même que generateRandomMaze(rows, cols, seed).
+    public void generateParallelMaze(int rows, int cols, long seed) {
+        publishGenerated(TiledMazeGenerator.generate(rows, cols, seed, TiledMazeGenerator.DEFAULT_TILE_ROOMS));
     }
 
-    // Vérifie si un chemin existe entre (startX, startY) et (endX, endY) avec BFS
-    private boolean isPathExists(int startX, int startY, int endX, int endY) {
-        boolean[][] visited = new boolean[rows][cols];
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{startX, startY});
-        visited[startX][startY] = true;
+    // Génère un labyrinthe aléatoire de taille donnée
+    // La grille est creusée à part (BacktrackingMazeGenerator) puis publiée d'un coup : un lecteur ne voit
+    // jamais de grille à moitié creusée
+    public void generateRandomMaze(int rows, int cols) {
+        publishGenerated(BacktrackingMazeGenerator.generate(rows, cols, random));
+    }
 
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-        while (!queue.isEmpty()) {
-            int[] current = queue.poll();
-            int x = current[0], y = current[1];
+    // Remplace le labyrinthe courant par une grille générée (creusée hors du verrou), S en (1, 1) et E
+    // en (rows - 2, cols - 2)
+    private synchronized void publishGenerated(Grid generated) {
+        setGrid(generated);
+        startX = 1;
+        startY = 1;
+        endX = generated.getRows() - 2;
+        endY = generated.getCols() - 2; // Pour 19x19, E sera à (17,17)
+        publish();
+    }
 
-            if (x == endX && y == endY) {
-                return true;
-            }
+    // Vérifie si un chemin existe entre le départ et la sortie (grille en mémoire ou tuilée).
+    // Lecture dans l'index des composantes de l'instantané, construit une seule fois par labyrinthe
+    public boolean hasPath() {
+        MazeSnapshot maze = snapshot();
+        return maze.componentIndex().connected(maze.getStartX(), maze.getStartY(), maze.getEndX(), maze.getEndY());
+    }
 
-            for (int[] dir : directions) {
-                int newX = x + dir[0], newY = y + dir[1];
-                if (newX >= 0 && newX < rows && newY >= 0 && newY < cols && !visited[newX][newY] && maze[newX][newY] != '#') {
-                    queue.add(new int[]{newX, newY});
-                    visited[newX][newY] = true;
-                }
-            }
-        }
-        return false;
+    // Vrai si (toX, toY) est atteignable depuis (fromX, fromY) : les deux cases doivent être ouvertes
+    public boolean isReachable(int fromX, int fromY, int toX, int toY) {
+        return snapshot().componentIndex().connected(fromX, fromY, toX, toY);
     }
 
-    // Garantit un chemin entre le départ et la sortie en cas de besoin (sécurité)
-    private void ensurePath(int startX, int startY, int endX, int endY) {
-        int x = startX, y = startY;
-        while (x != endX || y != endY) {
-            if (x < endX) {
-                x++;
-            } else if (y < endY) {
-                y++;
-            }
-            if (maze[x][y] != 'S' && maze[x][y] != 'E') {
-                maze[x][y] = '=';
+    // Distances depuis une ou plusieurs cases {x, y} (BFS multi-source, gardé avec l'instantané) : un seul
+    // parcours pour mesurer ou tracer le chemin vers autant de cibles que voulu
+    public DistanceField distancesFrom(List<int[]> sources) {
+        MazeSnapshot maze = snapshot();
+        int[] sourceCells = new int[sources.size()];
+        for (int k = 0; k < sourceCells.length; k++) {
+            int[] source = sources.get(k);
+            if (!maze.getCells().inBounds(source[0], source[1])) {
+                throw new IllegalArgumentException("Case hors du labyrinthe : (" + source[0] + ", " + source[1] + ")");
             }
+            sourceCells[k] = maze.getCells().index(source[0], source[1]);
         }
+        return maze.distanceField(sourceCells);
+    }
+
+    public DistanceField distancesFrom(int x, int y) {
+        return distancesFrom(List.<int[]>of(new int[]{x, y}));
+    }
+
+    // Impasses comblées (gardé avec l'instantané) : getMaze() se résout avec n'importe quel solveur,
+    // getRemovedCells() donne le nombre de cases retirées
+    public DeadEndFilling fillDeadEnds() {
+        return snapshot().deadEndsFilled();
     }
 
     // Classe interne pour stocker les résultats de la résolution (chemin, étapes, temps, succès)
@@ -295,12 +266,18 @@ public class Labyrinth {
         private final int steps; // Nombre d'étapes explorées
         private final double timeMs; // Temps d'exécution en millisecondes
         private final boolean pathFound; // Indique si un chemin a été trouvé
+        private final boolean stopped; // Arrêtée avant la fin (SolveControl) : résultat partiel
 
         public SolveResult(List<int[]> path, int steps, double timeMs, boolean pathFound) {
+            this(path, steps, timeMs, pathFound, false);
+        }
+
+        public SolveResult(List<int[]> path, int steps, double timeMs, boolean pathFound, boolean stopped) {
             this.path = path;
             this.steps = steps;
             this.timeMs = timeMs;
             this.pathFound = pathFound;
+            this.stopped = stopped;
         }
 
         public List<int[]> getPath() {
@@ -318,151 +295,125 @@ public class Labyrinth {
         public boolean isPathFound() {
             return pathFound;
         }
+
+        // Annulée ou hors délai : steps compte les cases développées avant l'arrêt et getPath() donne le
+        // meilleur chemin partiel connu (de S vers E, sans l'atteindre), vide si rien n'a été développé
+        public boolean isStopped() {
+            return stopped;
+        }
     }
 
     // Résout le labyrinthe avec l'algorithme DFS (Depth-First Search)
     public SolveResult solveDFS() {
-        long startTime = System.nanoTime(); // Mesure le temps de début
-        int[] steps = {0}; // Compteur d'étapes
-        boolean[][] visited = new boolean[rows][cols]; // Tableau des cases visitées
-        List<int[]> path = new ArrayList<>(); // Liste pour stocker le chemin
-        boolean pathFound = dfs(startX, startY, visited, path, steps); // Exécute DFS
-        long endTime = System.nanoTime(); // Mesure le temps de fin
-        double timeMs = (endTime - startTime) / 1_000_000.0; // Calcule le temps en ms
-        System.out.println("DFS: " + steps[0] + " steps, " + timeMs + " ms");
-        if (pathFound) {
-            int pathLength = calculatePathLength(path); // Calcule la longueur du chemin
-            System.out.println("Longueur du chemin (S à E) : " + pathLength + " cases");
-            printSolution(path); // Affiche la solution si un chemin est trouvé
-        } else {
-            System.out.println("DFS: Aucun chemin trouvé !");
-        }
-        return new SolveResult(path, steps[0], timeMs, pathFound);
+        return solve(new DfsSolver());
     }
 
-    // Algorithme DFS récursif pour trouver un chemin
-    private boolean dfs(int x, int y, boolean[][] visited, List<int[]> path, int[] steps) {
-        // Vérifie si la position est valide (dans les limites, non visitée, pas un mur)
-        if (x < 0 || x >= rows || y < 0 || y >= cols || visited[x][y] || maze[x][y] == '#') {
-            return false;
-        }
-        visited[x][y] = true;
-        path.add(new int[]{x, y});
-        steps[0]++;
+    // Résout le labyrinthe avec l'algorithme BFS (Breadth-First Search)
+    public SolveResult solveBFS() {
+        return solve(new BfsSolver());
+    }
 
-        // Si la sortie est atteinte, retourne vrai
-        if (x == endX && y == endY) {
-            return true;
-        }
+    // Résout le labyrinthe avec l'algorithme donné, sans rien afficher
+    public SolveResult solve(Solver solver) {
+        return solver.solve(snapshot());
+    }
 
-        // Explore les 4 directions (droite, bas, gauche, haut)
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-        for (int[] dir : directions) {
-            if (dfs(x + dir[0], y + dir[1], visited, path, steps)) {
-                return true;
-            }
-        }
-        path.remove(path.size() - 1); // Retire la position si aucun chemin n'est trouvé
-        return false;
+    // Résout puis transmet le résultat à printer (console, fichier...) ; le temps mesuré ne comprend
+    // que la recherche
+    public SolveResult solve(Solver solver, SolutionPrinter printer) {
+        MazeSnapshot maze = snapshot();
+        SolveResult result = solver.solve(maze);
+        printer.printResult(solver.getName(), maze, result);
+        return result;
     }
 
-    // Résout le labyrinthe avec l'algorithme BFS (Breadth-First Search)
-    public SolveResult solveBFS() {
-        long startTime = System.nanoTime(); // Mesure le temps de début
-        int steps = 0; // Compteur d'étapes
-        Queue<int[]> queue = new LinkedList<>(); // File pour BFS
-        Map<int[], int[]> parent = new HashMap<>(); // Stocke les parents pour reconstruire le chemin
-        boolean[][] visited = new boolean[rows][cols]; // Tableau des cases visitées
-        int[] start = {startX, startY};
-        queue.add(start);
-        visited[startX][startY] = true;
-
-        // Explore les 4 directions (droite, bas, gauche, haut)
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-        while (!queue.isEmpty()) {
-            int[] current = queue.poll();
-            int x = current[0], y = current[1];
-            steps++;
-
-            // Si la sortie est atteinte, reconstruit et retourne le chemin
-            if (x == endX && y == endY) {
-                long endTime = System.nanoTime();
-                double timeMs = (endTime - startTime) / 1_000_000.0;
-                System.out.println("BFS: " + steps + " steps, " + timeMs + " ms");
-                List<int[]> path = reconstructPath(parent, current);
-                int pathLength = calculatePathLength(path); // Calcule la longueur du chemin
-                System.out.println("Longueur du chemin (S à E) : " + pathLength + " cases");
-                printSolution(path);
-                return new SolveResult(path, steps, timeMs, true);
-            }
+    // Idem sous un SolveControl : peut être appelé hors du thread de l'interface et arrêté depuis celui-ci
+    public SolveResult solve(Solver solver, SolveControl control, SolutionPrinter printer) {
+        MazeSnapshot maze = snapshot();
+        SolveResult result = solver.solve(maze, control);
+        printer.printResult(solver.getName(), maze, result);
+        return result;
+    }
 
-            // Explore les voisins
-            for (int[] dir : directions) {
-                int newX = x + dir[0], newY = y + dir[1];
-                int[] next = {newX, newY};
-                if (newX >= 0 && newX < rows && newY >= 0 && newY < cols && !visited[newX][newY] && maze[newX][newY] != '#') {
-                    queue.add(next);
-                    visited[newX][newY] = true;
-                    parent.put(next, current);
-                }
+    // Affiche le labyrinthe courant dans la console avec des '+' pour le chemin
+    public void printSolution(List<int[]> path) {
+        SolutionPrinter.console().printSolution(snapshot(), path);
+    }
+
+    // Exporte la grille dans l'ancien format char[][] ('#' mur, '=' chemin, 'S' départ, 'E' sortie)
+    private char[][] toCharArray() {
+        int rows = cells.getRows(), cols = cells.getCols();
+        char[][] chars = new char[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                chars[i][j] = cells.isWall(i, j) ? '#' : '=';
             }
         }
-        long endTime = System.nanoTime();
-        double timeMs = (endTime - startTime) / 1_000_000.0;
-        System.out.println("BFS: " + steps + " steps, " + timeMs + " ms");
-        System.out.println("BFS: Aucun chemin trouvé !");
-        return new SolveResult(new ArrayList<>(), steps, timeMs, false);
-    }
-
-    // Reconstruit le chemin à partir de la map des parents
-    private List<int[]> reconstructPath(Map<int[], int[]> parent, int[] end) {
-        List<int[]> path = new ArrayList<>();
-        int[] current = end;
-        while (current != null) {
-            path.add(current);
-            current = parent.get(current);
+        if (rows > 0 && cols > 0) {
+            chars[startX][startY] = 'S';
+            chars[endX][endY] = 'E';
         }
-        Collections.reverse(path); // Inverse le chemin pour aller de S à E
-        return path;
+        return chars;
     }
 
-    // Calcule la longueur du chemin (nombre de cases de S à E)
-    private int calculatePathLength(List<int[]> path) {
-        if (path == null || path.isEmpty()) {
-            return 0; // Retourne 0 si aucun chemin n'est trouvé
+    // Getters pour accéder aux attributs du labyrinthe, lus dans le dernier instantané publié (0 ou null
+    // avant le premier chargement). Pour lire grille, S et E ensemble, prendre un seul snapshot().
+    // Vue de compatibilité : construite à la première demande puis réutilisée tant que la grille ne change pas
+    public synchronized char[][] getMaze() {
+        if (mazeView == null && cells != null) {
+            mazeView = toCharArray();
         }
-        return path.size(); // La longueur du chemin est le nombre de cases dans le chemin
+        return mazeView;
     }
 
-    // Affiche le labyrinthe résolu dans la console avec des '+' pour le chemin
-    public void printSolution(List<int[]> path) {
-        char[][] solvedMaze = new char[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            solvedMaze[i] = maze[i].clone();
-        }
-        for (int[] pos : path) {
-            int x = pos[0], y = pos[1];
-            if (solvedMaze[x][y] != 'S' && solvedMaze[x][y] != 'E') {
-                solvedMaze[x][y] = '+';
-            }
-        }
-        System.out.println("Solution:");
-        for (char[] row : solvedMaze) {
-            System.out.println(new String(row));
-        }
-        System.out.println();
+    // Grille compacte en mémoire, null si le labyrinthe est tuilé
+    public Grid getGrid() {
+        MazeSnapshot maze = snapshot;
+        return maze != null && maze.getCells() instanceof Grid memoryGrid ? memoryGrid : null;
     }
 
-    // Getters pour accéder aux attributs du labyrinthe
-    public char[][] getMaze() {
+    // Instantané immuable du dernier labyrinthe généré ou chargé, partageable entre threads
+    public MazeSnapshot snapshot() {
+        MazeSnapshot maze = snapshot;
+        if (maze == null) {
+            throw new IllegalStateException("Aucun labyrinthe chargé ou généré");
+        }
         return maze;
     }
 
+    // Grille à lire pour résoudre : en mémoire ou tuilée
+    public CellGrid getCells() {
+        MazeSnapshot maze = snapshot;
+        return maze == null ? null : maze.getCells();
+    }
+
+    public int getStartX() {
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getStartX();
+    }
+
+    public int getStartY() {
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getStartY();
+    }
+
+    public int getEndX() {
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getEndX();
+    }
+
+    public int getEndY() {
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getEndY();
+    }
+
     public int getRows() {
-        return rows;
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getRows();
     }
 
     public int getCols() {
-        return cols;
+        MazeSnapshot maze = snapshot;
+        return maze == null ? 0 : maze.getCols();
     }
-}
\ No newline at end of file
+}
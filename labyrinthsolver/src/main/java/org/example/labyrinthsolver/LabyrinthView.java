@@ -2,6 +2,7 @@ package org.example.labyrinthsolver;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.canvas.Canvas;
@@ -20,7 +21,10 @@ import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // Classe pour gérer l'interface graphique du labyrinthe
 public class LabyrinthView extends BorderPane {
@@ -29,7 +33,19 @@ public class LabyrinthView extends BorderPane {
     private final int cellSize = 25; // Taille d'une cellule du labyrinthe (réduite pour 19x19)
     private char[][] maze;
     private Label messageLabel;
+    private final SolutionPrinter console = SolutionPrinter.console(); // Résultats recopiés dans la console
     private boolean isDarkTheme = false;
+    private static final long SOLVE_TIMEOUT_MS = 60_000; // Délai d'une résolution lancée depuis l'interface
+
+    // Les résolutions tournent hors du thread JavaFX, une à la fois ; le thread ne retient pas la fermeture
+    private final ExecutorService solveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "labyrinth-solve");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private SolveControl currentSolve; // Résolution en cours, null sinon (lu et écrit sur le thread JavaFX)
+    private Button cancelButton;
+    private List<Button> solveLockedButtons; // Désactivés pendant une résolution (ils changent le labyrinthe ou l'affichage)
 
     // Classe interne pour stocker les styles des thèmes (clair et sombre)
     private static class ThemeStyles {
@@ -110,21 +126,28 @@ public class LabyrinthView extends BorderPane {
         // Crée les boutons avec leurs icônes
         Button loadButton = createButtonWithIcon("Load Maze", "/icons/file.png");
         Button generateButton = createButtonWithIcon("Generate Maze", "/icons/labyrinth.png");
+        Button saveButton = createButtonWithIcon("Save Maze", "/icons/file.png");
         Button dfsButton = createButtonWithIcon("Solve with DFS", "/icons/DFS.png");
         Button bfsButton = createButtonWithIcon("Solve with BFS", "/icons/BFS.png");
         Button resetButton = createButtonWithIcon("Reset", "/icons/circular.png");
         Button themeButton = createButtonWithIcon("Toggle Theme", "/icons/theme.png");
+        cancelButton = new Button("Cancel");
 
         // Applique un style aux boutons
         styleButton(loadButton, "#4CAF50");
         styleButton(generateButton, "#2196F3");
+        styleButton(saveButton, "#009688");
         styleButton(dfsButton, "#FF9800");
         styleButton(bfsButton, "#F44336");
         styleButton(resetButton, "#9E9E9E");
         styleButton(themeButton, "#FF5722");
+        styleButton(cancelButton, "#795548");
+        cancelButton.setDisable(true); // Actif seulement pendant une résolution
+        solveLockedButtons = List.of(loadButton, generateButton, dfsButton, bfsButton, resetButton);
 
         // Ajoute les boutons dans une barre horizontale
-        HBox buttonBox = new HBox(10, loadButton, generateButton, dfsButton, bfsButton, resetButton, themeButton);
+        HBox buttonBox = new HBox(10, loadButton, generateButton, saveButton, dfsButton, bfsButton, cancelButton,
+                resetButton, themeButton);
         buttonBox.setAlignment(Pos.CENTER);
         buttonBox.setPadding(new Insets(10));
         buttonBox.setStyle("-fx-background-color: " + currentTheme.buttonBarBackground + "; -fx-background-radius: 5;");
@@ -134,10 +157,19 @@ public class LabyrinthView extends BorderPane {
         loadButton.setOnAction(event -> {
             FileChooser fileChooser = new FileChooser();
             fileChooser.setTitle("Open Maze File");
-            fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+            fileChooser.getExtensionFilters().addAll(
+                    new FileChooser.ExtensionFilter("Maze Files", "*.txt", "*.lab"),
+                    new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+                    new FileChooser.ExtensionFilter("Binary Maze Files", "*.lab"));
             File file = fileChooser.showOpenDialog(null);
             if (file != null) {
-                labyrinth.loadFromFile(file.getAbsolutePath());
+                try {
+                    labyrinth.loadFromFile(file.getAbsolutePath());
+                } catch (IOException e) {
+                    messageLabel.setText("Erreur de chargement : " + e.getMessage());
+                    messageLabel.setTextFill(Color.RED);
+                    return;
+                }
                 updateCanvas();
                 drawLabyrinth();
                 messageLabel.setText("Labyrinthe chargé !");
@@ -154,35 +186,41 @@ public class LabyrinthView extends BorderPane {
             messageLabel.setTextFill(Color.DARKGREEN);
         });
 
-        // Action du bouton "Solve with DFS" : résout le labyrinthe avec DFS
-        dfsButton.setOnAction(event -> {
-            Labyrinth.SolveResult result = labyrinth.solveDFS();
-            drawLabyrinth();
-            if (result.isPathFound()) {
-                drawPath(result.getPath());
-                // Calcule la longueur du chemin
-                int pathLength = result.getPath().size();
-                messageLabel.setText("DFS: " + result.getSteps() + " steps, " + String.format("%.3f", result.getTimeMs()) + " ms, Chemin: " + pathLength + " cases");
-                messageLabel.setTextFill(Color.DARKGREEN);
-            } else {
-                messageLabel.setText("DFS: Aucun chemin trouvé !");
-                messageLabel.setTextFill(Color.RED);
+        // Action du bouton "Save Maze" : sauvegarde le labyrinthe (binaire pour .lab, texte sinon)
+        saveButton.setOnAction(event -> {
+            FileChooser fileChooser = new FileChooser();
+            fileChooser.setTitle("Save Maze File");
+            fileChooser.getExtensionFilters().addAll(
+                    new FileChooser.ExtensionFilter("Binary Maze Files", "*.lab"),
+                    new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+            File file = fileChooser.showSaveDialog(null);
+            if (file != null) {
+                try {
+                    if (file.getName().endsWith(".lab")) {
+                        labyrinth.saveBinary(file.getAbsolutePath());
+                    } else {
+                        labyrinth.saveToTextFile(file.getAbsolutePath());
+                    }
+                    messageLabel.setText("Labyrinthe sauvegardé !");
+                    messageLabel.setTextFill(Color.DARKGREEN);
+                } catch (IOException e) {
+                    messageLabel.setText("Erreur de sauvegarde : " + e.getMessage());
+                    messageLabel.setTextFill(Color.RED);
+                }
             }
         });
 
-        // Action du bouton "Solve with BFS" : résout le labyrinthe avec BFS
-        bfsButton.setOnAction(event -> {
-            Labyrinth.SolveResult result = labyrinth.solveBFS();
-            drawLabyrinth();
-            if (result.isPathFound()) {
-                drawPath(result.getPath());
-                // Calcule la longueur du chemin
-                int pathLength = result.getPath().size();
-                messageLabel.setText("BFS: " + result.getSteps() + " steps, " + String.format("%.3f", result.getTimeMs()) + " ms, Chemin: " + pathLength + " cases");
-                messageLabel.setTextFill(Color.DARKGREEN);
-            } else {
-                messageLabel.setText("BFS: Aucun chemin trouvé !");
-                messageLabel.setTextFill(Color.RED);
+        // Action du bouton "Solve with DFS" : résout le labyrinthe avec DFS (en arrière-plan)
+        dfsButton.setOnAction(event -> startSolve(new DfsSolver()));
+
+        // Action du bouton "Solve with BFS" : résout le labyrinthe avec BFS (en arrière-plan)
+        bfsButton.setOnAction(event -> startSolve(new BfsSolver()));
+
+        // Action du bouton "Cancel" : arrête la résolution en cours (son résultat partiel est affiché)
+        cancelButton.setOnAction(event -> {
+            if (currentSolve != null) {
+                currentSolve.cancel();
+                messageLabel.setText("Annulation en cours...");
             }
         });
 
@@ -206,6 +244,68 @@ public class LabyrinthView extends BorderPane {
         drawLabyrinth(); // Dessine le labyrinthe initial
     }
 
+    // Lance la résolution sur le thread de fond : l'interface reste réactive, la progression s'affiche dans
+    // le message et le bouton Cancel peut l'arrêter
+    private void startSolve(Solver solver) {
+        String name = solver.getName();
+        // Le rapport arrive sur le thread de fond : l'affichage repasse sur le thread JavaFX
+        SolveControl control = new SolveControl(SOLVE_TIMEOUT_MS, (explored, frontier) -> Platform.runLater(() ->
+                messageLabel.setText(name + ": " + explored + " cases explorées, frontière " + frontier + "...")));
+        currentSolve = control;
+        setSolving(true);
+        drawLabyrinth();
+        messageLabel.setText(name + ": résolution en cours...");
+        messageLabel.setTextFill(Color.valueOf(currentTheme.messageText));
+        solveExecutor.execute(() -> {
+            try {
+                Labyrinth.SolveResult result = labyrinth.solve(solver, control, console);
+                Platform.runLater(() -> showResult(name, control, result));
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    finishSolve();
+                    messageLabel.setText(name + ": Erreur de résolution : " + e.getMessage());
+                    messageLabel.setTextFill(Color.RED);
+                });
+            }
+        });
+    }
+
+    // Affiche le résultat d'une résolution terminée, arrêtée ou sans chemin (thread JavaFX)
+    private void showResult(String name, SolveControl control, Labyrinth.SolveResult result) {
+        finishSolve();
+        String time = String.format("%.3f", result.getTimeMs()) + " ms";
+        if (result.isPathFound()) {
+            drawPath(result.getPath());
+            // Calcule la longueur du chemin
+            int pathLength = result.getPath().size();
+            messageLabel.setText(name + ": " + result.getSteps() + " steps, " + time + ", Chemin: " + pathLength + " cases");
+            messageLabel.setTextFill(Color.DARKGREEN);
+        } else if (result.isStopped()) {
+            if (!result.getPath().isEmpty()) {
+                drawPath(result.getPath()); // Meilleur chemin partiel connu (pile courante pour DFS)
+            }
+            String reason = control.isTimedOut() ? "Délai dépassé" : "Résolution annulée";
+            messageLabel.setText(name + ": " + reason + " après " + result.getSteps() + " steps, " + time
+                    + ", Chemin partiel: " + result.getPath().size() + " cases");
+            messageLabel.setTextFill(Color.DARKORANGE);
+        } else {
+            messageLabel.setText(name + ": Aucun chemin trouvé !");
+            messageLabel.setTextFill(Color.RED);
+        }
+    }
+
+    private void finishSolve() {
+        currentSolve = null;
+        setSolving(false);
+    }
+
+    private void setSolving(boolean solving) {
+        for (Button button : solveLockedButtons) {
+            button.setDisable(solving);
+        }
+        cancelButton.setDisable(!solving);
+    }
+
     // Applique le thème courant à l'interface graphique
     private void applyTheme() {
         this.setStyle("-fx-background-color: " + currentTheme.appBackground + ";");
@@ -311,17 +411,21 @@ public class LabyrinthView extends BorderPane {
         GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.setStroke(Color.LIGHTGRAY);
         gc.setLineWidth(2);
-        char[][] currentMaze = labyrinth.getMaze();
-        for (int i = 0; i < currentMaze.length; i++) {
-            for (int j = 0; j < currentMaze[0].length; j++) {
-                if (currentMaze[i][j] == '#') {
-                    gc.setFill(Color.valueOf(currentTheme.wallColor));
-                } else if (currentMaze[i][j] == 'S') {
+        // Un seul instantané : grille, S et E restent cohérents même si un autre thread génère entre-temps
+        MazeSnapshot maze = labyrinth.snapshot();
+        CellGrid grid = maze.getCells();
+        Color wallColor = Color.valueOf(currentTheme.wallColor);
+        Color emptyColor = Color.valueOf(currentTheme.emptyColor);
+        for (int i = 0; i < grid.getRows(); i++) {
+            for (int j = 0; j < grid.getCols(); j++) {
+                if (i == maze.getStartX() && j == maze.getStartY()) {
                     gc.setFill(Color.valueOf(currentTheme.startColor));
-                } else if (currentMaze[i][j] == 'E') {
+                } else if (i == maze.getEndX() && j == maze.getEndY()) {
                     gc.setFill(Color.valueOf(currentTheme.endColor));
+                } else if (grid.isWall(i, j)) {
+                    gc.setFill(wallColor);
                 } else {
-                    gc.setFill(Color.valueOf(currentTheme.emptyColor));
+                    gc.setFill(emptyColor);
                 }
                 gc.fillRect(j * cellSize, i * cellSize, cellSize, cellSize);
                 gc.strokeRect(j * cellSize, i * cellSize, cellSize, cellSize);
@@ -333,8 +437,6 @@ public class LabyrinthView extends BorderPane {
     private void drawPath(List<int[]> path) {
         GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.setFill(Color.valueOf(currentTheme.pathColor));
-        char[][] currentMaze = labyrinth.getMaze();
-
         Timeline timeline = new Timeline();
         final int[] index = {0};
         timeline.setCycleCount(path.size());
@@ -343,7 +445,9 @@ public class LabyrinthView extends BorderPane {
             if (index[0] < path.size()) {
                 int[] pos = path.get(index[0]);
                 int x = pos[0], y = pos[1];
-                if (currentMaze[x][y] != 'S' && currentMaze[x][y] != 'E') {
+                boolean isStart = x == labyrinth.getStartX() && y == labyrinth.getStartY();
+                boolean isEnd = x == labyrinth.getEndX() && y == labyrinth.getEndY();
+                if (!isStart && !isEnd) {
                     gc.fillRect(y * cellSize + 5, x * cellSize + 5, cellSize - 10, cellSize - 10);
                 }
                 index[0]++;
@@ -0,0 +1,143 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Replanification incrémentale LPA* (Lifelong Planning A*) entre le départ et la sortie d'un labyrinthe
+// dont les murs changent. Les coûts g (meilleur coût connu depuis S) et rhs (coût proposé par les
+// voisins) sont gardés d'un appel à l'autre : après un changement, seules les cases dont le coût change
+// vraiment sont redéveloppées. Inscrit comme MazeListener d'un Labyrinth, le planificateur suit ses setWall.
+// Les étapes d'un résultat comptent les cases développées par cet appel de replan().
+public class LpaStarPlanner implements MazeListener {
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private CellGrid grid;
+    private int rows, cols, start, goal, goalX, goalY;
+    private int[] g; // Coût depuis S, INFINITY si inconnu
+    private int[] rhs; // Coût d'après les voisins : min(g voisin) + 1, 0 pour S, INFINITY pour un mur
+    private IndexedMinHeap open; // Cases incohérentes (g != rhs)
+
+    public LpaStarPlanner(MazeSnapshot maze) {
+        reset(maze);
+    }
+
+    public String getName() {
+        return "LPA*";
+    }
+
+    // Repart de zéro sur un nouveau labyrinthe
+    private void reset(MazeSnapshot maze) {
+        grid = maze.getCells();
+        rows = grid.getRows();
+        cols = grid.getCols();
+        int cells = rows * cols;
+        start = grid.index(maze.getStartX(), maze.getStartY());
+        goalX = maze.getEndX();
+        goalY = maze.getEndY();
+        goal = grid.index(goalX, goalY);
+        g = new int[cells];
+        rhs = new int[cells];
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open = new IndexedMinHeap(cells);
+        rhs[start] = 0;
+        open.push(start, key(start));
+    }
+
+    // Calcule le plus court chemin (premier appel) ou le répare après des changements
+    public synchronized Labyrinth.SolveResult replan() {
+        long startTime = System.nanoTime(); // Mesure le temps de début
+        int steps = 0;
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.poll();
+            steps++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u]; // Le coût baisse : on l'accepte et on le propage
+            } else {
+                g[u] = INFINITY; // Le coût monte : on oublie l'ancien et on recalcule u et ses voisins
+                updateVertex(u);
+            }
+            int x = u / cols, y = u - x * cols;
+            // Voisins (droite, bas, gauche, haut)
+            if (y + 1 < cols) updateVertex(u + 1);
+            if (x + 1 < rows) updateVertex(u + cols);
+            if (y > 0) updateVertex(u - 1);
+            if (x > 0) updateVertex(u - cols);
+        }
+        if (g[goal] >= INFINITY) {
+            return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+        }
+        return new Labyrinth.SolveResult(extractPath(), steps, SolverSupport.elapsedMs(startTime), true);
+    }
+
+    // Un mur a été posé ou retiré : seule la case change de coût d'entrée, ses voisins suivront au replan
+    @Override
+    public synchronized void cellChanged(MazeSnapshot maze, int x, int y) {
+        CellGrid cells = maze.getCells();
+        if (cells.getRows() != rows || cells.getCols() != cols
+                || cells.index(maze.getStartX(), maze.getStartY()) != start
+                || maze.getEndX() != goalX || maze.getEndY() != goalY) {
+            reset(maze);
+            return;
+        }
+        grid = cells;
+        updateVertex(grid.index(x, y));
+    }
+
+    @Override
+    public synchronized void mazeReplaced(MazeSnapshot maze) {
+        reset(maze);
+    }
+
+    // Recalcule rhs(u) et remet u dans la file s'il est incohérent
+    private void updateVertex(int u) {
+        if (u != start) {
+            int best = INFINITY;
+            if (!grid.isWallAt(u)) {
+                int x = u / cols, y = u - x * cols;
+                if (y + 1 < cols) best = Math.min(best, g[u + 1]);
+                if (x + 1 < rows) best = Math.min(best, g[u + cols]);
+                if (y > 0) best = Math.min(best, g[u - 1]);
+                if (x > 0) best = Math.min(best, g[u - cols]);
+                best = Math.min(best + 1, INFINITY);
+            }
+            rhs[u] = best;
+        }
+        open.remove(u);
+        if (g[u] != rhs[u]) {
+            open.push(u, key(u));
+        }
+    }
+
+    // Clé LPA* : [min(g, rhs) + h ; min(g, rhs)] rangée dans un long (ordre lexicographique)
+    private long key(int u) {
+        long m = Math.min(g[u], rhs[u]);
+        int x = u / cols, y = u - x * cols;
+        long k1 = m >= INFINITY ? INFINITY : m + Math.abs(x - goalX) + Math.abs(y - goalY);
+        return (k1 << 32) | m;
+    }
+
+    // Remonte de la sortie vers le départ par le voisin de plus petit g
+    private List<int[]> extractPath() {
+        List<int[]> path = new ArrayList<>();
+        int current = goal;
+        path.add(new int[]{current / cols, current % cols});
+        while (current != start) {
+            int x = current / cols, y = current - x * cols;
+            int next = -1, best = g[current];
+            if (y + 1 < cols && g[current + 1] < best) { next = current + 1; best = g[next]; }
+            if (x + 1 < rows && g[current + cols] < best) { next = current + cols; best = g[next]; }
+            if (y > 0 && g[current - 1] < best) { next = current - 1; best = g[next]; }
+            if (x > 0 && g[current - cols] < best) { next = current - cols; best = g[next]; }
+            if (next < 0) {
+                throw new IllegalStateException("Coûts LPA* incohérents en (" + x + ", " + y + ")");
+            }
+            current = next;
+            path.add(new int[]{current / cols, current % cols});
+        }
+        Collections.reverse(path); // Inverse le chemin pour aller de S à E
+        return path;
+    }
+}
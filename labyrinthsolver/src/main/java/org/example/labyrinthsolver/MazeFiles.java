@@ -0,0 +1,466 @@
+package org.example.labyrinthsolver;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Lecture et écriture des fichiers de labyrinthe.
+// Texte : le fichier est projeté en mémoire (NIO) et ses octets sont convertis directement en grille
+// de bits, en relevant S et E au passage.
+// Binaire (petit-boutiste) : en-tête de 32 octets (signature "\u0089LAB", version, rangées, colonnes,
+// départ x/y, sortie x/y) suivi des mots de 64 bits de la grille, un bit par case (1 = mur).
+final class MazeFiles {
+    private static final long CHUNK_SIZE = 1L << 30; // Taille maximale d'une projection
+    private static final byte[] MAGIC = {(byte) 0x89, 'L', 'A', 'B'}; // Non imprimable : jamais le début d'un fichier texte
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    // Lecture de 8 octets à la fois (SWAR) pour les lignes entièrement ASCII
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long WALLS = 0x2323232323232323L; // '#' répété
+    private static final long STARTS = 0x5353535353535353L; // 'S'
+    private static final long ENDS = 0x4545454545454545L; // 'E'
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL; // '\n'
+    private static final long RETURNS = 0x0D0D0D0D0D0D0D0DL; // '\r'
+
+    private MazeFiles() {
+    }
+
+    // Grille chargée avec les positions de départ et de sortie
+    static final class MazeData {
+        final Grid grid;
+        final int startX, startY, endX, endY;
+
+        MazeData(Grid grid, int startX, int startY, int endX, int endY) {
+            this.grid = grid;
+            this.startX = startX;
+            this.startY = startY;
+            this.endX = endX;
+            this.endY = endY;
+        }
+    }
+
+    // Lit un labyrinthe texte : une ligne par rangée, '#' pour les murs, 'S' et 'E' pour le départ et la sortie.
+    // La largeur est celle de la première ligne ; une ligne plus courte est complétée par des murs.
+    static MazeData readText(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IOException("Fichier de labyrinthe vide : " + path);
+            }
+            long[] firstLine = measureFirstLine(channel, size);
+            int cols = checkedWidth(firstLine[0]);
+            // Estimation du nombre de rangées si toutes les lignes font la taille de la première
+            long estimatedRows = (size + firstLine[1] - 1) / firstLine[1];
+            TextScanner scanner = new TextScanner(cols, estimatedRows);
+            for (long position = 0; position < size; position += CHUNK_SIZE) {
+                scanner.scan(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position)));
+            }
+            return scanner.finish();
+        }
+    }
+
+    // Rangées d'un texte lu par bandes (readTextBands)
+    interface BandSink {
+        // count rangées complètes, bits rangés comme dans une Grid de count x cols cases (1 = mur)
+        void rows(long[] words, int count) throws IOException;
+    }
+
+    // Lit un labyrinthe texte de largeur cols (celle de la première ligne) par bandes d'au plus bandRows
+    // rangées remises à sink : une seule bande est en mémoire. Mêmes règles que readText.
+    // Renvoie {départ x, départ y, sortie x, sortie y}.
+    static int[] readTextBands(FileChannel channel, int cols, int bandRows, BandSink sink) throws IOException {
+        long size = channel.size();
+        TextScanner scanner = new TextScanner(cols, bandRows, sink);
+        for (long position = 0; position < size; position += CHUNK_SIZE) {
+            scanner.scan(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position)));
+        }
+        return scanner.finishBands();
+    }
+
+    // Écrit la grille au format texte lu par readText ('#' mur, '=' chemin, 'S' départ, 'E' sortie)
+    static void writeText(Path path, MazeData data) throws IOException {
+        Grid grid = data.grid;
+        byte[] line = new byte[grid.getCols() + 1];
+        line[grid.getCols()] = '\n';
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            for (int i = 0; i < grid.getRows(); i++) {
+                for (int j = 0; j < grid.getCols(); j++) {
+                    line[j] = (byte) (grid.isWall(i, j) ? '#' : '=');
+                }
+                if (i == data.startX && data.startY < grid.getCols()) line[data.startY] = 'S';
+                if (i == data.endX && data.endY < grid.getCols()) line[data.endY] = 'E';
+                out.write(line);
+            }
+        }
+    }
+
+    // Le fichier commence-t-il par la signature du format binaire ?
+    static boolean isBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(MAGIC.length);
+            channel.read(head, 0);
+            return !head.hasRemaining() && Arrays.equals(head.array(), MAGIC);
+        }
+    }
+
+    // Écrit la grille au format binaire : l'en-tête puis les mots de bits tels quels
+    static void writeBinary(Path path, MazeData data) throws IOException {
+        Grid grid = data.grid;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, binaryHeader(grid.getRows(), grid.getCols(), data.startX, data.startY,
+                    data.endX, data.endY));
+
+            long[] words = grid.words();
+            int wordCount = Grid.wordCount(grid.getRows(), grid.getCols());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            int perBuffer = buffer.capacity() / Long.BYTES;
+            for (int offset = 0; offset < wordCount; offset += perBuffer) {
+                int count = Math.min(perBuffer, wordCount - offset);
+                buffer.clear();
+                buffer.asLongBuffer().put(words, offset, count);
+                buffer.limit(count * Long.BYTES);
+                writeFully(channel, buffer);
+            }
+        }
+    }
+
+    // En-tête du format binaire, prêt à être écrit
+    static ByteBuffer binaryHeader(int rows, int cols, int startX, int startY, int endX, int endY) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(VERSION).putInt(rows).putInt(cols)
+                .putInt(startX).putInt(startY).putInt(endX).putInt(endY).flip();
+        return header;
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Lit un fichier binaire : les mots de bits sont copiés en bloc depuis la projection, sans analyse
+    static MazeData readBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Fichier binaire tronqué : " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Signature de labyrinthe binaire absente : " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version de format non prise en charge : " + version);
+            }
+            int rows = header.getInt(), cols = header.getInt();
+            int startX = header.getInt(), startY = header.getInt(), endX = header.getInt(), endY = header.getInt();
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Dimensions invalides : " + rows + "x" + cols);
+            }
+            if (startX < 0 || startX >= rows || startY < 0 || startY >= cols
+                    || endX < 0 || endX >= rows || endY < 0 || endY >= cols) {
+                throw new IOException("Départ ou sortie hors du labyrinthe");
+            }
+            int wordCount = Grid.wordCount(rows, cols);
+            if (size < HEADER_SIZE + (long) wordCount * Long.BYTES) {
+                throw new IOException("Fichier binaire tronqué : " + path);
+            }
+
+            long[] words = new long[wordCount];
+            int wordsPerChunk = (int) (CHUNK_SIZE / Long.BYTES);
+            for (int offset = 0; offset < wordCount; offset += wordsPerChunk) {
+                int count = Math.min(wordsPerChunk, wordCount - offset);
+                channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + (long) offset * Long.BYTES, (long) count * Long.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(words, offset, count);
+            }
+            // Les bits au-delà de la dernière case doivent rester à 0
+            int tail = (int) (((long) rows * cols) & 63);
+            if (tail != 0) {
+                words[wordCount - 1] &= (1L << tail) - 1;
+            }
+            return new MazeData(new Grid(rows, cols, words), startX, startY, endX, endY);
+        }
+    }
+
+    // Largeur de la première ligne en caractères (sans '\r' ni octets de continuation UTF-8),
+    // et sa taille en octets fin de ligne comprise
+    static long[] measureFirstLine(FileChannel channel, long size) throws IOException {
+        long width = 0;
+        for (long position = 0; position < size; position += CHUNK_SIZE) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position));
+            for (int i = 0; i < buffer.limit(); i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    return new long[]{width, position + i + 1};
+                }
+                if (countsAsCell(b)) {
+                    width++;
+                }
+            }
+        }
+        return new long[]{width, size};
+    }
+
+    static int checkedWidth(long width) throws IOException {
+        if (width == 0 || width > Integer.MAX_VALUE) {
+            throw new IOException("Largeur de labyrinthe invalide : " + width);
+        }
+        return (int) width;
+    }
+
+    // '\r' est ignoré et un caractère UTF-8 sur plusieurs octets ne compte que pour une case
+    static boolean countsAsCell(byte b) {
+        return b != '\r' && (b & 0xC0) != 0x80;
+    }
+
+    // Bit de poids fort à 1 dans chaque octet de v égal à l'octet répété dans pattern (exact, sans retenue)
+    private static long matchBytes(long v, long pattern) {
+        long x = v ^ pattern;
+        return ~(((x & LOW_7_BITS) + LOW_7_BITS) | x | LOW_7_BITS);
+    }
+
+    // Regroupe les 8 bits de poids fort en un octet (l'octet k donne le bit k)
+    private static long gather(long highBits) {
+        return ((highBits >>> 7) * 0x0102040810204080L) >>> 56;
+    }
+
+    // Convertit les octets du fichier en bits, rangée par rangée. Sans sink, toute la grille est gardée ;
+    // avec un sink, les bits ne couvrent que la bande en cours, à partir de la rangée bandStart.
+    private static final class TextScanner {
+        private final int cols;
+        private final byte[] block;
+        private long[] words;
+        private final int bandRows;
+        private final BandSink sink; // null : grille entière
+        private int bandStart;
+        private int row, col;
+        private boolean lineOpen; // Des octets ont été lus depuis le dernier '\n'
+        private int startX, startY, endX, endY;
+
+        // Le tableau de bits est dimensionné pour estimatedRows rangées et grandit si besoin
+        TextScanner(int cols, long estimatedRows) {
+            this(cols, (int) Math.min(estimatedRows, Integer.MAX_VALUE / cols), null);
+        }
+
+        // bandRows rangées par bande, remises à sink dès qu'elles sont complètes
+        TextScanner(int cols, int bandRows, BandSink sink) {
+            this.cols = cols;
+            this.block = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(1 << 20, 2 * (cols + 2L)))];
+            this.words = new long[Grid.wordCount(bandRows, cols)];
+            this.bandRows = bandRows;
+            this.sink = sink;
+        }
+
+        // Parcourt une projection par blocs copiés dans un tableau, plus rapide que get(i) octet par octet.
+        // Chaque bloc s'arrête après son dernier '\n' pour que les lignes restent entières (chemin rapide).
+        void scan(MappedByteBuffer buffer) throws IOException {
+            int limit = buffer.limit();
+            int offset = 0;
+            while (offset < limit) {
+                int length = Math.min(block.length, limit - offset);
+                buffer.get(offset, block, 0, length);
+                if (offset + length < limit) {
+                    int last = length - 1;
+                    while (last >= 0 && block[last] != '\n') {
+                        last--;
+                    }
+                    if (last >= 0) {
+                        length = last + 1;
+                    }
+                }
+                scanBlock(length);
+                offset += length;
+            }
+        }
+
+        // La colonne et le mot de bits en cours restent dans des variables locales : le tableau n'est
+        // écrit qu'une fois par mot de 64 cases au lieu d'une lecture-écriture par octet
+        private void scanBlock(int length) throws IOException {
+            byte[] bytes = block;
+            long[] bits = words;
+            int c = col;
+            boolean open = lineOpen;
+            int base = (row - bandStart) * cols; // Indice de la première case de la rangée courante
+            int word = -1; // Mot de bits en cours de remplissage
+            long pending = 0; // Bits de murs accumulés pour ce mot
+            for (int i = 0; i < length; i++) {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    if (word >= 0) {
+                        bits[word] |= pending;
+                        word = -1;
+                        pending = 0;
+                    }
+                    col = c;
+                    endRow();
+                    bits = words;
+                    base = (row - bandStart) * cols;
+                    c = 0;
+                    open = false;
+                    continue;
+                }
+                if (c == 0 && !open && fitsFastRow(bytes, i, length)) {
+                    if ((long) base + cols > (long) bits.length << 6) {
+                        bits = grow((long) base + cols);
+                    }
+                    if (scanFastRow(bytes, i, base, bits)) {
+                        c = cols;
+                        open = true;
+                        i += cols - 1; // La fin de ligne est traitée normalement au tour suivant
+                        continue;
+                    }
+                }
+                open = true;
+                if (c >= cols || !countsAsCell(b)) {
+                    continue; // Les caractères au-delà de la première largeur sont ignorés
+                }
+                int index = base + c;
+                if ((index >>> 6) != word) {
+                    if (word >= 0) {
+                        bits[word] |= pending;
+                    }
+                    if (c == 0 && (long) base + cols > (long) bits.length << 6) {
+                        bits = grow((long) base + cols);
+                    }
+                    word = index >>> 6;
+                    pending = 0;
+                }
+                pending |= (long) (b == '#' ? 1 : 0) << index; // Sans branchement sur le contenu
+                recordEndpoint(b, c);
+                c++;
+            }
+            if (word >= 0) {
+                bits[word] |= pending;
+            }
+            col = c;
+            lineOpen = open;
+        }
+
+        // La ligne qui commence en from tient-elle entière dans le bloc, avec exactement cols octets ?
+        private boolean fitsFastRow(byte[] bytes, int from, int length) {
+            int after = from + cols;
+            return after < length && (bytes[after] == '\n'
+                    || (bytes[after] == '\r' && after + 1 < length && bytes[after + 1] == '\n'));
+        }
+
+        // Convertit une ligne ASCII 8 octets à la fois ; renvoie false (sans effet gênant : les bits
+        // déjà posés sont exacts et seront reposés à l'identique) si la ligne doit passer par le cas général
+        private boolean scanFastRow(byte[] bytes, int from, int base, long[] bits) {
+            int j = 0;
+            for (; j + 8 <= cols; j += 8) {
+                long v = (long) LONGS.get(bytes, from + j);
+                if ((v & HIGH_BITS) != 0 || (matchBytes(v, NEWLINES) | matchBytes(v, RETURNS)) != 0) {
+                    return false;
+                }
+                long walls = gather(matchBytes(v, WALLS));
+                if (walls != 0) {
+                    int index = base + j;
+                    int shift = index & 63;
+                    bits[index >>> 6] |= walls << shift;
+                    if (shift > 56) {
+                        bits[(index >>> 6) + 1] |= walls >>> (64 - shift);
+                    }
+                }
+                if ((matchBytes(v, STARTS) | matchBytes(v, ENDS)) != 0) {
+                    for (int k = j; k < j + 8; k++) {
+                        recordEndpoint(bytes[from + k], k);
+                    }
+                }
+            }
+            for (; j < cols; j++) {
+                byte b = bytes[from + j];
+                if (b < 0 || b == '\n' || b == '\r') {
+                    return false;
+                }
+                if (b == '#') {
+                    int index = base + j;
+                    bits[index >>> 6] |= 1L << index;
+                } else {
+                    recordEndpoint(b, j);
+                }
+            }
+            return true;
+        }
+
+        private void recordEndpoint(byte b, int column) {
+            if (b == 'S') {
+                startX = row;
+                startY = column;
+            } else if (b == 'E') {
+                endX = row;
+                endY = column;
+            }
+        }
+
+        // Termine la rangée courante en murant les cases manquantes
+        private void endRow() throws IOException {
+            int base = (row - bandStart) * cols;
+            if ((long) base + cols > (long) words.length << 6) {
+                grow((long) base + cols);
+            }
+            for (int j = col; j < cols; j++) {
+                int index = base + j;
+                words[index >>> 6] |= 1L << index;
+            }
+            row++;
+            col = 0;
+            lineOpen = false;
+            if (sink != null && row - bandStart == bandRows) {
+                flushBand();
+            }
+        }
+
+        // Remet la bande en cours au sink puis efface ses bits pour la suivante
+        private void flushBand() throws IOException {
+            int count = row - bandStart;
+            sink.rows(words, count);
+            Arrays.fill(words, 0, Grid.wordCount(count, cols), 0L);
+            bandStart = row;
+        }
+
+        private long[] grow(long cellsNeeded) throws IOException {
+            if (cellsNeeded > Integer.MAX_VALUE) {
+                throw new IOException("Labyrinthe trop grand : plus de " + Integer.MAX_VALUE + " cases");
+            }
+            long capacity = Math.max(cellsNeeded, ((long) words.length << 6) * 3 / 2);
+            words = Arrays.copyOf(words, (int) ((Math.min(capacity, Integer.MAX_VALUE) + 63) >>> 6));
+            return words;
+        }
+
+        int[] finishBands() throws IOException {
+            if (lineOpen) {
+                endRow();
+            }
+            if (row > bandStart) {
+                flushBand(); // Dernière bande incomplète
+            }
+            return new int[]{startX, startY, endX, endY};
+        }
+
+        MazeData finish() throws IOException {
+            if (lineOpen) {
+                endRow(); // Dernière ligne sans '\n' final
+            }
+            int wordCount = Grid.wordCount(row, cols);
+            long[] bits = words.length == wordCount ? words : Arrays.copyOf(words, wordCount);
+            return new MazeData(new Grid(row, cols, bits), startX, startY, endX, endY);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.labyrinthsolver;
+
+// Observateur des changements d'un Labyrinth, appelé après la publication du nouvel instantané
+public interface MazeListener {
+    // La case (x, y) a changé (mur posé ou retiré) ; maze est l'instantané qui contient le changement
+    void cellChanged(MazeSnapshot maze, int x, int y);
+
+    // Le labyrinthe a été remplacé (génération ou chargement)
+    default void mazeReplaced(MazeSnapshot maze) {
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Vue figée d'un labyrinthe : grille et positions de départ et de sortie.
+// Labyrinth ne modifie jamais une grille déjà publiée (chaque génération ou chargement en crée une
+// nouvelle), donc plusieurs threads peuvent résoudre le même instantané sans copie ni verrou.
+// Les index dérivés de la grille sont calculés à la première demande et gardés avec l'instantané :
+// un nouveau labyrinthe donne un nouvel instantané, donc des index neufs.
+public final class MazeSnapshot {
+    private static final int MAX_CACHED_FIELDS = 4; // Une carte coûte un int par case
+
+    private final CellGrid cells;
+    private final int startX, startY, endX, endY;
+    private volatile ComponentIndex components; // Construit à la première demande
+    private volatile CorridorGraph corridors; // Construit à la première demande
+    private volatile HierarchicalGraph hierarchy; // Construit à la première demande ou repris du précédent
+    private volatile DeadEndFilling deadEnds; // Construit à la première demande
+    private volatile long contentHash; // Empreinte de la grille, calculée à la première demande
+    private volatile boolean hashed;
+    private final Deque<DistanceField> fields = new ArrayDeque<>(); // Cartes récentes, la plus récente en tête
+
+    public MazeSnapshot(CellGrid cells, int startX, int startY, int endX, int endY) {
+        this.cells = cells;
+        this.startX = startX;
+        this.startY = startY;
+        this.endX = endX;
+        this.endY = endY;
+    }
+
+    public CellGrid getCells() {
+        return cells;
+    }
+
+    public int getRows() {
+        return cells.getRows();
+    }
+
+    public int getCols() {
+        return cells.getCols();
+    }
+
+    public int getStartX() {
+        return startX;
+    }
+
+    public int getStartY() {
+        return startY;
+    }
+
+    public int getEndX() {
+        return endX;
+    }
+
+    public int getEndY() {
+        return endY;
+    }
+
+    // Empreinte 64 bits de la grille (dimensions et murs, sans S ni E), calculée une seule fois
+    public long contentHash() {
+        if (!hashed) {
+            contentHash = SolveCache.contentHash(cells);
+            hashed = true;
+        }
+        return contentHash;
+    }
+
+    // Composantes connexes de la grille. Deux threads peuvent le construire en même temps : les deux
+    // index sont identiques, le dernier écrit est gardé.
+    public ComponentIndex componentIndex() {
+        ComponentIndex index = components;
+        if (index == null) {
+            index = ComponentIndex.build(cells);
+            components = index;
+        }
+        return index;
+    }
+
+    // Graphe des couloirs, avec S et E comme nœuds. Même règle que componentIndex() en cas de course.
+    public CorridorGraph corridorGraph() {
+        CorridorGraph graph = corridors;
+        if (graph == null) {
+            graph = CorridorGraph.build(cells, cells.index(startX, startY), cells.index(endX, endY));
+            corridors = graph;
+        }
+        return graph;
+    }
+
+    // Abstraction HPA* en clusters de HierarchicalGraph.DEFAULT_CLUSTER_SIZE cases de côté
+    public HierarchicalGraph hierarchicalGraph() {
+        HierarchicalGraph graph = hierarchy;
+        if (graph == null) {
+            graph = HierarchicalGraph.build(cells, HierarchicalGraph.DEFAULT_CLUSTER_SIZE);
+            hierarchy = graph;
+        }
+        return graph;
+    }
+
+    // Copie de l'instantané aux impasses comblées, avec le nombre de cases retirées
+    public DeadEndFilling deadEndsFilled() {
+        DeadEndFilling filling = deadEnds;
+        if (filling == null) {
+            filling = DeadEndFilling.build(this);
+            deadEnds = filling;
+        }
+        return filling;
+    }
+
+    // Après un changement de la case (x, y) : reprend l'abstraction HPA* du précédent instantané, si elle
+    // a été construite, en ne recalculant que les clusters touchés
+    void inheritHierarchy(MazeSnapshot previous, int x, int y) {
+        HierarchicalGraph graph = previous.hierarchy;
+        if (graph != null) {
+            hierarchy = graph.update(cells, x, y);
+        }
+    }
+
+    // Carte des distances depuis les sources (indices x * cols + y), gardée parmi les dernières demandées.
+    // Le BFS se fait hors du verrou ; deux threads peuvent calculer la même carte, une seule est gardée.
+    public DistanceField distanceField(int... sourceCells) {
+        int[] sources = DistanceField.normalize(sourceCells, getRows() * getCols());
+        synchronized (fields) {
+            for (DistanceField field : fields) {
+                if (field.hasSources(sources)) {
+                    fields.remove(field);
+                    fields.addFirst(field);
+                    return field;
+                }
+            }
+        }
+        DistanceField field = DistanceField.build(cells, sources);
+        synchronized (fields) {
+            for (DistanceField other : fields) {
+                if (other.hasSources(sources)) {
+                    return other; // Calculée entre-temps par un autre thread
+                }
+            }
+            fields.addFirst(field);
+            if (fields.size() > MAX_CACHED_FIELDS) {
+                fields.removeLast();
+            }
+        }
+        return field;
+    }
+
+    // Distances depuis le départ (ou, la grille étant non orientée, jusqu'au départ)
+    public DistanceField distancesFromStart() {
+        return distanceField(cells.index(startX, startY));
+    }
+
+    // Distances jusqu'à la sortie : pathTo(x, y) inversé mène de (x, y) à E
+    public DistanceField distancesToEnd() {
+        return distanceField(cells.index(endX, endY));
+    }
+}
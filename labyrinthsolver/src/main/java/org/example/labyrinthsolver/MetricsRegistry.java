@@ -0,0 +1,128 @@
+package org.example.labyrinthsolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histogrammes cumulés des résolutions instrumentées, par algorithme et par mesure. Les valeurs sont
+// rangées dans des seaux de puissances de deux (précision à un facteur 2 près sur les quantiles), sans
+// verrou : plusieurs threads peuvent enregistrer en même temps. Export en CSV par writeCsv.
+public final class MetricsRegistry {
+    // Mesures enregistrées pour chaque résolution, dans l'ordre de l'export
+    private static final String[] METRICS = {"expanded", "peak_frontier", "allocated_bytes", "load_us",
+            "preprocess_us", "search_us", "reconstruct_us", "total_us"};
+
+    private final Map<String, Histogram[]> histograms = new ConcurrentHashMap<>(); // Par algorithme
+
+    // Histogramme de valeurs positives : seau k pour les valeurs de [2^(k-1), 2^k), seau 0 pour 0
+    public static final class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(65);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        public void record(long value) {
+            long v = Math.max(0, value);
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v));
+            count.incrementAndGet();
+            sum.addAndGet(v);
+            min.accumulateAndGet(v, Math::min);
+            max.accumulateAndGet(v, Math::max);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getSum() {
+            return sum.get();
+        }
+
+        public long getMin() {
+            return count.get() == 0 ? 0 : min.get();
+        }
+
+        public long getMax() {
+            return count.get() == 0 ? 0 : max.get();
+        }
+
+        // Borne haute du seau qui contient le quantile q (entre 0 et 1), limitée au maximum observé
+        public long quantile(double q) {
+            long total = count.get();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(q * total));
+            long seen = 0;
+            for (int k = 0; k < 65; k++) {
+                seen += buckets.get(k);
+                if (seen >= rank) {
+                    long upper = k == 0 ? 0 : k == 64 ? Long.MAX_VALUE : (1L << k) - 1;
+                    return Math.min(upper, getMax());
+                }
+            }
+            return getMax();
+        }
+    }
+
+    // Ajoute les mesures d'une résolution aux histogrammes de son algorithme
+    public void record(SolveMetrics metrics) {
+        Histogram[] h = histograms.computeIfAbsent(metrics.getAlgorithm(), name -> newHistograms());
+        h[0].record(metrics.getExpanded());
+        h[1].record(metrics.getPeakFrontier());
+        if (metrics.getAllocatedBytes() >= 0) {
+            h[2].record(metrics.getAllocatedBytes());
+        }
+        h[3].record(micros(metrics.getLoadMs()));
+        h[4].record(micros(metrics.getPreprocessMs()));
+        h[5].record(micros(metrics.getSearchMs()));
+        h[6].record(micros(metrics.getReconstructMs()));
+        h[7].record(micros(metrics.getTotalMs()));
+    }
+
+    private static Histogram[] newHistograms() {
+        Histogram[] h = new Histogram[METRICS.length];
+        for (int i = 0; i < h.length; i++) {
+            h[i] = new Histogram();
+        }
+        return h;
+    }
+
+    private static long micros(double ms) {
+        return Math.round(ms * 1000);
+    }
+
+    // Histogramme d'une mesure ("search_us", "peak_frontier"...) pour un algorithme, null si aucune donnée
+    public Histogram histogram(String algorithm, String metric) {
+        Histogram[] h = histograms.get(algorithm);
+        if (h == null) {
+            return null;
+        }
+        for (int i = 0; i < METRICS.length; i++) {
+            if (METRICS[i].equals(metric)) {
+                return h[i];
+            }
+        }
+        throw new IllegalArgumentException("Mesure inconnue : " + metric);
+    }
+
+    // Une ligne par algorithme et par mesure, algorithmes triés par nom
+    public void writeCsv(Writer out) throws IOException {
+        out.write("algorithm,metric,count,sum,min,max,p50,p90,p99\n");
+        for (Map.Entry<String, Histogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            String algorithm = entry.getKey().replace("\"", "\"\"");
+            for (int i = 0; i < METRICS.length; i++) {
+                Histogram h = entry.getValue()[i];
+                out.write("\"" + algorithm + "\"," + METRICS[i] + "," + h.getCount() + "," + h.getSum() + ","
+                        + h.getMin() + "," + h.getMax() + "," + h.quantile(0.5) + "," + h.quantile(0.9) + ","
+                        + h.quantile(0.99) + "\n");
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.labyrinthsolver;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Résolution BFS parallèle, niveau par niveau : chaque front est découpé en tranches traitées par un
+// ForkJoinPool. Les cases visitées sont marquées dans un bitmap atomique partagé (le premier qui pose
+// le bit devient le parent) et les parents sont rangés dans un int[] pour reconstruire le chemin.
+// Le chemin est un plus court chemin, mais pas forcément le même que celui de BfsSolver.
+// Les étapes comptent toutes les cases des niveaux développés, plus la sortie.
+// Bitmap, parents et niveaux sont les tableaux de travail du thread appelant (longs 0, entiers 0 à 2), passés
+// aux tâches du pool. Un appelant qui est lui-même un thread ForkJoin alloue les siens : pendant un join,
+// il peut exécuter une autre résolution qui prendrait les mêmes tableaux.
+public class ParallelBfsSolver implements Solver {
+    private static final int LEAF_SIZE = 2048; // Taille d'une tranche traitée par une seule tâche
+    private static final int SEQUENTIAL_THRESHOLD = 4 * LEAF_SIZE; // En dessous, le niveau est traité sans fork
+    // Tampon des cases trouvées par une tranche, un par thread : expand() ne fait ni fork ni join
+    private static final ThreadLocal<int[]> BUFFERS = ThreadLocal.withInitial(() -> new int[4 * LEAF_SIZE]);
+    // Accès atomiques aux mots du bitmap, un long[] ordinaire pris dans les tableaux de travail
+    private static final VarHandle VISITED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ForkJoinPool pool; // Pool commun, ou pool dédié créé avec le solveur
+
+    // Utilise le pool ForkJoin commun
+    public ParallelBfsSolver() {
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    // Utilise un pool dédié de parallelism threads, partagé par toutes les résolutions de ce solveur.
+    // Ses threads sont des démons et s'arrêtent d'eux-mêmes après une période d'inactivité.
+    public ParallelBfsSolver(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être positif : " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public String getName() {
+        return "BFS parallèle";
+    }
+
+    @Override
+    public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+        return new Search(maze).run(maze, pool);
+    }
+
+    // État d'une résolution, partagé par les tâches d'un même niveau
+    private static final class Search {
+        private final CellGrid grid;
+        private final int rows, cols, start, end;
+        private final long[] visited; // Un bit par case, lu et posé par VISITED
+        private final int[] parent; // parent[i] = indice du parent + 1, écrit par le thread qui a posé le bit
+        private int[] frontier, next; // Niveau courant et niveau suivant
+        private final AtomicInteger nextSize = new AtomicInteger();
+        private volatile boolean endReached;
+
+        Search(MazeSnapshot maze) {
+            this.grid = maze.getCells();
+            this.rows = grid.getRows();
+            this.cols = grid.getCols();
+            int cells = rows * cols;
+            this.start = grid.index(maze.getStartX(), maze.getStartY());
+            this.end = grid.index(maze.getEndX(), maze.getEndY());
+            int words = (cells + 63) >>> 6;
+            if (ForkJoinTask.inForkJoinPool()) {
+                this.visited = new long[words];
+                this.parent = new int[cells];
+                this.frontier = new int[cells];
+                this.next = new int[cells];
+            } else {
+                // Seul le bitmap est remis à zéro : parent[] n'est lu que pour les cases visitées
+                SolverSupport.Scratch scratch = SolverSupport.scratch();
+                this.visited = scratch.clearedLongs(0, words);
+                this.parent = scratch.ints(0, cells);
+                this.frontier = scratch.ints(1, cells);
+                this.next = scratch.ints(2, cells);
+            }
+        }
+
+        Labyrinth.SolveResult run(MazeSnapshot maze, ForkJoinPool pool) {
+            long startTime = System.nanoTime(); // Mesure le temps de début
+            SolveTrace trace = SolveTrace.current(); // null hors instrumentation
+            visited[start >>> 6] |= 1L << start; // Comme BfsSolver, le départ est visité même s'il est muré
+            parent[start] = start + 1;
+            frontier[0] = start;
+            int size = 1;
+            int steps = 0;
+            endReached = start == end;
+            if (trace != null) trace.partialPath(maze, cell -> SolverSupport.reconstructPath(parent, start, cell, cols));
+
+            while (size > 0 && !endReached) {
+                if (trace != null) {
+                    trace.expanded(frontier, size); // Le niveau entier
+                    trace.frontier(size, size);
+                }
+                nextSize.set(0);
+                if (size <= SEQUENTIAL_THRESHOLD) {
+                    expand(0, size);
+                } else {
+                    pool.invoke(new LevelTask(0, size));
+                }
+                steps += size;
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+                size = nextSize.get();
+            }
+
+            if (!endReached) {
+                return new Labyrinth.SolveResult(new ArrayList<>(), steps, SolverSupport.elapsedMs(startTime), false);
+            }
+            // Le pool a terminé (invoke/join) : les écritures de parent[] sont visibles ici
+            if (trace != null) trace.phase(SolveTrace.RECONSTRUCT);
+            return new Labyrinth.SolveResult(SolverSupport.reconstructPath(parent, start, end, cols),
+                    steps + 1, SolverSupport.elapsedMs(startTime), true);
+        }
+
+        // Développe frontier[from, to) et ajoute les nouvelles cases au niveau suivant par blocs
+        private void expand(int from, int to) {
+            int[] buffer = BUFFERS.get();
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                int x = current / cols, y = current - x * cols;
+                if (count > buffer.length - 4) {
+                    flush(buffer, count);
+                    count = 0;
+                }
+                // Explore les voisins (droite, bas, gauche, haut)
+                if (y + 1 < cols && tryVisit(current + 1, current)) buffer[count++] = current + 1;
+                if (x + 1 < rows && tryVisit(current + cols, current)) buffer[count++] = current + cols;
+                if (y > 0 && tryVisit(current - 1, current)) buffer[count++] = current - 1;
+                if (x > 0 && tryVisit(current - cols, current)) buffer[count++] = current - cols;
+            }
+            flush(buffer, count);
+        }
+
+        // Réserve une plage du niveau suivant avec un seul getAndAdd, puis y copie le tampon local
+        private void flush(int[] buffer, int count) {
+            if (count > 0) {
+                int offset = nextSize.getAndAdd(count);
+                System.arraycopy(buffer, 0, next, offset, count);
+            }
+        }
+
+        // Marque la case si elle est ouverte et encore libre ; renvoie true pour le seul thread gagnant
+        private boolean tryVisit(int cell, int from) {
+            if (grid.isWallAt(cell)) {
+                return false;
+            }
+            int word = cell >>> 6;
+            long bit = 1L << cell;
+            long current = (long) VISITED.getVolatile(visited, word);
+            while ((current & bit) == 0) {
+                if (VISITED.compareAndSet(visited, word, current, current | bit)) {
+                    parent[cell] = from + 1;
+                    if (cell == end) {
+                        endReached = true;
+                    }
+                    return true;
+                }
+                current = (long) VISITED.getVolatile(visited, word);
+            }
+            return false;
+        }
+
+        // Découpe récursive d'un niveau en tranches de LEAF_SIZE cases
+        private final class LevelTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int from, to;
+
+            LevelTask(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= LEAF_SIZE) {
+                    expand(from, to);
+                    return;
+                }
+                int middle = (from + to) >>> 1;
+                invokeAll(new LevelTask(from, middle), new LevelTask(middle, to));
+            }
+        }
+    }
+}
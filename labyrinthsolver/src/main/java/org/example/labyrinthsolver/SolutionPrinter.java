@@ -0,0 +1,104 @@
+package org.example.labyrinthsolver;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// Affichage d'une résolution vers une sortie texte (console, fichier ou Writer) : résumé (étapes, temps,
+// longueur) puis labyrinthe avec le chemin en '+'. Les solveurs n'affichent rien ; ce rendu est appelé
+// après la recherche et n'entre donc pas dans le temps mesuré. Le labyrinthe est écrit rangée par rangée
+// dans un seul tampon de ligne, sans copie de la grille.
+public class SolutionPrinter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PrintWriter out;
+    private final boolean ownsOutput; // La console n'est jamais fermée
+
+    private SolutionPrinter(Writer writer, boolean ownsOutput) {
+        this.out = new PrintWriter(writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE));
+        this.ownsOutput = ownsOutput;
+    }
+
+    // Écrit dans un Writer fourni par l'appelant ; close() le ferme
+    public SolutionPrinter(Writer writer) {
+        this(writer, true);
+    }
+
+    // Écrit sur la sortie standard, avec son encodage
+    public static SolutionPrinter console() {
+        return new SolutionPrinter(new OutputStreamWriter(System.out, System.out.charset()), false);
+    }
+
+    // Écrit dans un fichier (créé ou remplacé)
+    public static SolutionPrinter toFile(Path path) throws IOException {
+        return new SolutionPrinter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), true);
+    }
+
+    // Résumé de la résolution, suivi du labyrinthe résolu si un chemin a été trouvé. maze est l'instantané
+    // résolu : le chemin est dessiné sur cette grille même si le labyrinthe a changé depuis.
+    public void printResult(String solverName, MazeSnapshot maze, Labyrinth.SolveResult result) {
+        out.println(solverName + ": " + result.getSteps() + " steps, " + result.getTimeMs() + " ms");
+        if (result.isPathFound()) {
+            out.println("Longueur du chemin (S à E) : " + result.getPath().size() + " cases");
+            printSolution(maze, result.getPath());
+        } else if (result.isStopped()) {
+            out.println(solverName + ": Résolution interrompue avant d'atteindre la sortie");
+            out.flush();
+        } else {
+            out.println(solverName + ": Aucun chemin trouvé !");
+            out.flush();
+        }
+    }
+
+    // Labyrinthe résolu avec des '+' pour le chemin ('#' mur, '=' chemin, 'S' départ, 'E' sortie)
+    public void printSolution(MazeSnapshot maze, List<int[]> path) {
+        CellGrid cells = maze.getCells();
+        int rows = cells.getRows(), cols = cells.getCols();
+        // Cases du chemin triées par indice : elles sont consommées rangée par rangée
+        int[] marks = new int[path.size()];
+        for (int k = 0; k < marks.length; k++) {
+            marks[k] = cells.index(path.get(k)[0], path.get(k)[1]);
+        }
+        Arrays.sort(marks);
+
+        out.println("Solution:");
+        char[] line = new char[cols];
+        int next = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                line[j] = cells.isWall(i, j) ? '#' : '=';
+            }
+            int rowEnd = (i + 1) * cols;
+            for (; next < marks.length && marks[next] < rowEnd; next++) {
+                line[marks[next] - i * cols] = '+';
+            }
+            if (i == maze.getStartX()) line[maze.getStartY()] = 'S';
+            if (i == maze.getEndX()) line[maze.getEndY()] = 'E';
+            out.println(line);
+        }
+        out.println();
+        out.flush();
+    }
+
+    // Vrai si une écriture a échoué (PrintWriter ne lève pas d'exception)
+    public boolean checkError() {
+        return out.checkError();
+    }
+
+    @Override
+    public void close() {
+        if (ownsOutput) {
+            out.close();
+        } else {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package org.example.labyrinthsolver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cache des résultats de résolution, indexé par la grille, S, E et la clé du solveur (Solver.cacheKey :
+// nom et configuration, par exemple les poids d'A*). En mémoire : les maxEntries derniers résultats
+// utilisés (LRU). Sur disque (facultatif) : un fichier par résultat dans le dossier donné, relu après un
+// redémarrage.
+// L'empreinte de la grille (MazeSnapshot.contentHash) ne sert qu'à trouver l'entrée : les mots de la grille
+// sont ensuite comparés (la clé garde la grille immuable de l'instantané, le fichier en garde une copie),
+// donc deux grilles de même empreinte ne se partagent jamais un résultat.
+// Un résultat renvoyé par le cache est partagé : son chemin ne doit pas être modifié. Son temps est celui
+// de la résolution d'origine.
+public final class SolveCache {
+    private static final int MAGIC = 0x89534F4C; // "\u0089SOL"
+    private static final int VERSION = 1;
+
+    private final int maxEntries;
+    private final Path directory; // null : pas de tier disque
+    private final Map<Key, Labyrinth.SolveResult> memory;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // Clé d'un résultat : tout ce dont dépend une résolution
+    static final class Key {
+        final long contentHash;
+        final CellGrid cells; // Grille de l'instantané, jamais modifiée après publication
+        final int rows, cols, startX, startY, endX, endY;
+        final String algorithm;
+
+        Key(MazeSnapshot maze, String algorithm) {
+            this.contentHash = maze.contentHash();
+            this.cells = maze.getCells();
+            this.rows = maze.getRows();
+            this.cols = maze.getCols();
+            this.startX = maze.getStartX();
+            this.startY = maze.getStartY();
+            this.endX = maze.getEndX();
+            this.endY = maze.getEndY();
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && contentHash == k.contentHash && rows == k.rows && cols == k.cols
+                    && startX == k.startX && startY == k.startY && endX == k.endX && endY == k.endY
+                    && algorithm.equals(k.algorithm) && sameCells(cells, k.cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(contentHash) * 31 + algorithm.hashCode();
+        }
+
+        // Nom du fichier sur disque : empreinte de la clé entière (la clé complète est relue et comparée)
+        String fileName() {
+            long h = mix(contentHash ^ algorithm.hashCode());
+            for (int value : new int[]{rows, cols, startX, startY, endX, endY}) {
+                h = mix(h ^ value);
+            }
+            return String.format("%016x.sol", h);
+        }
+    }
+
+    // Cache en mémoire seulement
+    public SolveCache(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    // Cache en mémoire, doublé d'un dossier de résultats s'il n'est pas null (créé si besoin)
+    public SolveCache(int maxEntries, Path directory) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("La taille du cache doit être positive : " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.directory = directory;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Dossier de cache inutilisable : " + directory, e);
+            }
+        }
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Labyrinth.SolveResult> eldest) {
+                return size() > SolveCache.this.maxEntries;
+            }
+        };
+    }
+
+    // Résultat en cache, ou résolution puis mise en cache. Deux threads qui ratent la même clé en même
+    // temps résolvent tous les deux ; le dernier résultat écrit est gardé.
+    public Labyrinth.SolveResult solve(Solver solver, MazeSnapshot maze) {
+        Key key = new Key(maze, solver.cacheKey());
+        Labyrinth.SolveResult result;
+        synchronized (memory) {
+            result = memory.get(key);
+        }
+        if (result != null) {
+            hits.incrementAndGet();
+            return result;
+        }
+        result = directory == null ? null : readFromDisk(key);
+        if (result != null) {
+            diskHits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            result = solver.solve(maze);
+            if (directory != null) {
+                writeToDisk(key, result);
+            }
+        }
+        synchronized (memory) {
+            memory.put(key, result);
+        }
+        return result;
+    }
+
+    // Un fichier illisible ou d'une autre clé (collision de nom) compte comme absent
+    private Labyrinth.SolveResult readFromDisk(Key key) {
+        Path file = directory.resolve(key.fileName());
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != key.contentHash
+                    || in.readInt() != key.rows || in.readInt() != key.cols
+                    || in.readInt() != key.startX || in.readInt() != key.startY
+                    || in.readInt() != key.endX || in.readInt() != key.endY
+                    || !in.readUTF().equals(key.algorithm)) {
+                return null;
+            }
+            int words = wordCount(key.cells);
+            for (int w = 0; w < words; w++) {
+                if (in.readLong() != word(key.cells, w)) {
+                    return null; // Même empreinte, autre grille
+                }
+            }
+            boolean found = in.readBoolean();
+            int steps = in.readInt();
+            double timeMs = in.readDouble();
+            int length = in.readInt();
+            List<int[]> path = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                path.add(new int[]{in.readInt(), in.readInt()});
+            }
+            return new Labyrinth.SolveResult(path, steps, timeMs, found);
+        } catch (IOException e) {
+            return null; // Absent, tronqué ou corrompu : on résout à nouveau et on le remplace
+        }
+    }
+
+    // Écrit dans un fichier temporaire puis le renomme : un lecteur ne voit jamais de fichier à moitié écrit.
+    // Une erreur d'écriture n'empêche pas de renvoyer le résultat.
+    private void writeToDisk(Key key, Labyrinth.SolveResult result) {
+        Path file = directory.resolve(key.fileName());
+        try {
+            Path temp = Files.createTempFile(directory, "solve", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(key.contentHash);
+                for (int value : new int[]{key.rows, key.cols, key.startX, key.startY, key.endX, key.endY}) {
+                    out.writeInt(value);
+                }
+                out.writeUTF(key.algorithm);
+                int words = wordCount(key.cells);
+                for (int w = 0; w < words; w++) {
+                    out.writeLong(word(key.cells, w));
+                }
+                out.writeBoolean(result.isPathFound());
+                out.writeInt(result.getSteps());
+                out.writeDouble(result.getTimeMs());
+                out.writeInt(result.getPath().size());
+                for (int[] cell : result.getPath()) {
+                    out.writeInt(cell[0]);
+                    out.writeInt(cell[1]);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Cache de résolution : écriture impossible de " + file + " (" + e.getMessage() + ")");
+        }
+    }
+
+    // Empreinte de la grille par mots de 64 cases : lecture directe des mots d'une Grid, case par case
+    // pour une grille tuilée
+    static long contentHash(CellGrid grid) {
+        long h = mix(((long) grid.getRows() << 32) | grid.getCols());
+        int count = wordCount(grid);
+        if (grid instanceof Grid memoryGrid) {
+            long[] words = memoryGrid.words();
+            for (int w = 0; w < count; w++) {
+                h = (Long.rotateLeft(h, 23) ^ words[w]) * 0x9E3779B97F4A7C15L;
+            }
+        } else {
+            for (int w = 0; w < count; w++) {
+                h = (Long.rotateLeft(h, 23) ^ word(grid, w)) * 0x9E3779B97F4A7C15L;
+            }
+        }
+        return mix(h);
+    }
+
+    // Mêmes dimensions et mêmes murs (les dimensions sont déjà comparées par la clé)
+    private static boolean sameCells(CellGrid a, CellGrid b) {
+        if (a == b) {
+            return true;
+        }
+        int count = wordCount(a);
+        for (int w = 0; w < count; w++) {
+            if (word(a, w) != word(b, w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int wordCount(CellGrid grid) {
+        return Grid.wordCount(grid.getRows(), grid.getCols());
+    }
+
+    // Mot w de la grille, au format de Grid (bit b = case 64 * w + b, bits au-delà de la grille à 0)
+    private static long word(CellGrid grid, int w) {
+        int cells = grid.getRows() * grid.getCols();
+        int base = w << 6;
+        if (grid instanceof Grid memoryGrid) {
+            long word = memoryGrid.words()[w];
+            int count = cells - base;
+            return count >= 64 ? word : word & ((1L << count) - 1);
+        }
+        long word = 0;
+        for (int b = 0; b < 64 && base + b < cells; b++) {
+            if (grid.isWallAt(base + b)) {
+                word |= 1L << b;
+            }
+        }
+        return word;
+    }
+
+    // Mélange final de MurmurHash3 (fmix64)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    public void clear() {
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    // Résultats trouvés en mémoire
+    public long getHits() {
+        return hits.get();
+    }
+
+    // Résultats relus sur disque (absents de la mémoire)
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    // Résolutions effectivement calculées
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+}
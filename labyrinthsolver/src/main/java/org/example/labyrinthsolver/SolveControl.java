@@ -0,0 +1,99 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+
+// Contrôle d'une résolution lancée par solve(solver, maze) : annulation depuis n'importe quel thread,
+// délai maximal et rapport périodique de la progression (cases développées, taille de la frontière).
+// Les solveurs le consultent par leur SolveTrace, toutes les CHECK_INTERVAL cases développées et à chaque
+// changement de phase : une construction d'index (graphe de couloirs, hiérarchie, comblement) va à son
+// terme avant l'arrêt. Une résolution arrêtée renvoie un résultat partiel : isStopped(), isPathFound()
+// faux, les étapes déjà faites (en cases développées), le temps écoulé et le meilleur chemin connu, de S
+// à la case développée la plus proche de E. DFS donne sa pile (le chemin de S à la case courante) ; le
+// BFS bidirectionnel ne compte que le front parti de S ; couloirs et HPA* redéplient le chemin jusqu'au
+// nœud retenu ; le BFS parallèle n'est consulté qu'entre deux niveaux. Le chemin n'est vide que si rien
+// n'a encore été développé. Un contrôle sert à une seule résolution.
+public final class SolveControl {
+    static final int CHECK_INTERVAL = 1024; // Cases développées entre deux consultations
+    private static final long PROGRESS_INTERVAL_NANOS = 100_000_000L; // Au plus dix rapports par seconde
+
+    // Appelé sur le thread qui résout : à l'interface de repasser sur son propre thread
+    public interface ProgressListener {
+        void progress(long explored, int frontier);
+    }
+
+    private final long timeoutNanos; // 0 : pas de délai
+    private final ProgressListener listener; // null : pas de rapport
+    private volatile boolean cancelled;
+    private volatile boolean timedOut;
+    private long deadline;
+    private long nextProgress;
+
+    // Annulation seulement
+    public SolveControl() {
+        this(0, null);
+    }
+
+    // timeoutMs compté depuis le début de la résolution (0 : pas de délai) ; listener peut être null
+    public SolveControl(long timeoutMs, ProgressListener listener) {
+        if (timeoutMs < 0) {
+            throw new IllegalArgumentException("Délai négatif : " + timeoutMs);
+        }
+        this.timeoutNanos = timeoutMs * 1_000_000L;
+        this.listener = listener;
+    }
+
+    // Résout sous ce contrôle ; le résultat est partiel si la résolution a été arrêtée
+    public Labyrinth.SolveResult solve(Solver solver, MazeSnapshot maze) {
+        long startTime = System.nanoTime();
+        deadline = startTime + timeoutNanos;
+        nextProgress = startTime + PROGRESS_INTERVAL_NANOS;
+        SolveTrace trace = SolveTrace.start(this);
+        try {
+            if (checkpoint(0, 0)) { // Annulée avant d'avoir commencé
+                return new Labyrinth.SolveResult(new ArrayList<>(), 0, SolverSupport.elapsedMs(startTime),
+                        false, true);
+            }
+            return solver.solve(maze);
+        } catch (SolveTrace.Stopped e) {
+            return new Labyrinth.SolveResult(e.path, (int) Math.min(e.explored, Integer.MAX_VALUE),
+                    SolverSupport.elapsedMs(startTime), false, true);
+        } finally {
+            trace.stop();
+        }
+    }
+
+    // Demande l'arrêt ; sans effet si la résolution est déjà terminée
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    // Le délai a arrêté la résolution
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    // Appelé par SolveTrace sur le thread qui résout ; vrai si la résolution doit s'arrêter
+    boolean checkpoint(long explored, int frontier) {
+        if (cancelled) {
+            return true;
+        }
+        if (timeoutNanos == 0 && listener == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (timeoutNanos > 0 && now - deadline >= 0) {
+            timedOut = true;
+            return true;
+        }
+        // Pas de rapport tant que rien n'a été développé (phases de préparation)
+        if (listener != null && explored > 0 && now - nextProgress >= 0) {
+            nextProgress = now + PROGRESS_INTERVAL_NANOS;
+            listener.progress(explored, frontier);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.labyrinthsolver;
+
+// Mesures d'une résolution instrumentée (InstrumentedSolver) : cases développées, plus grande frontière
+// (file, pile ou tas selon l'algorithme), octets alloués par le thread qui résout, et temps par phase.
+// Le chargement n'est connu que de l'appelant (0 s'il ne l'a pas fourni) ; les solveurs qui ne
+// découpent pas leur temps le comptent entièrement en recherche.
+public final class SolveMetrics {
+    private final String algorithm;
+    private final Labyrinth.SolveResult result;
+    private final int peakFrontier;
+    private final long allocatedBytes; // -1 si la JVM ne mesure pas les allocations par thread
+    private final double loadMs, preprocessMs, searchMs, reconstructMs;
+
+    SolveMetrics(String algorithm, Labyrinth.SolveResult result, int peakFrontier, long allocatedBytes,
+                 double loadMs, double preprocessMs, double searchMs, double reconstructMs) {
+        this.algorithm = algorithm;
+        this.result = result;
+        this.peakFrontier = peakFrontier;
+        this.allocatedBytes = allocatedBytes;
+        this.loadMs = loadMs;
+        this.preprocessMs = preprocessMs;
+        this.searchMs = searchMs;
+        this.reconstructMs = reconstructMs;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public Labyrinth.SolveResult getResult() {
+        return result;
+    }
+
+    // Cases (ou nœuds, pour les solveurs sur graphe) développées : les étapes du résultat
+    public int getExpanded() {
+        return result.getSteps();
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public double getLoadMs() {
+        return loadMs;
+    }
+
+    public double getPreprocessMs() {
+        return preprocessMs;
+    }
+
+    public double getSearchMs() {
+        return searchMs;
+    }
+
+    public double getReconstructMs() {
+        return reconstructMs;
+    }
+
+    public double getTotalMs() {
+        return loadMs + preprocessMs + searchMs + reconstructMs;
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Mesures d'une résolution en cours sur le thread courant, remplies par les solveurs. Hors d'une
+// InstrumentedSolver ou d'un SolveControl, current() renvoie null et les solveurs ne mesurent rien : une
+// lecture de ThreadLocal par résolution et un test de null par case développée.
+// Le temps est découpé en phases ; chaque appel à phase() clôt la précédente. Une résolution commence en
+// SEARCH : seuls les solveurs qui construisent un index ou reconstruisent un chemin changent de phase.
+// Avec un SolveControl, la trace le consulte toutes les SolveControl.CHECK_INTERVAL cases développées et
+// à chaque changement de phase ; l'arrêt remonte jusqu'à SolveControl.solve par l'exception Stopped.
+// Un solveur qui garde ses parents déclare partialPath() et signale chaque case développée par
+// expanded() : l'arrêt emporte alors le chemin de S à la case développée la plus proche de E (Manhattan).
+// DFS, dont la pile est déjà un chemin, remplace Stopped par un Stopped qui porte cette pile.
+final class SolveTrace {
+    static final int PREPROCESS = 0, SEARCH = 1, RECONSTRUCT = 2;
+    private static final ThreadLocal<SolveTrace> ACTIVE = new ThreadLocal<>();
+
+    private final SolveTrace outer; // Trace remise en place par stop() (instrumentation sous un contrôle)
+    private final SolveControl control; // null : la résolution ne peut pas être arrêtée
+    private final long[] phaseNanos = new long[3];
+    private int phase = SEARCH;
+    private long phaseStart;
+    private int peakFrontier;
+    private int lastFrontier;
+    private long explored; // Cases développées depuis le début de la trace
+    private long nextCheck = SolveControl.CHECK_INTERVAL;
+    private PartialPath partialPath; // null : pas de chemin partiel (ou pas de contrôle)
+    private int goalX, goalY, cols;
+    private int bestCell = -1, bestDistance = Integer.MAX_VALUE;
+
+    // Chemin de S jusqu'à une case déjà développée, lu dans les tableaux du solveur
+    interface PartialPath {
+        List<int[]> to(int cell);
+    }
+
+    // Arrêt demandé par le SolveControl : pas de pile d'appels, seul compte le travail déjà fait
+    static final class Stopped extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final long explored;
+        final transient List<int[]> path; // Chemin partiel, vide si le solveur n'en donne pas
+
+        Stopped(long explored, List<int[]> path) {
+            super(null, null, false, false);
+            this.explored = explored;
+            this.path = path;
+        }
+    }
+
+    private SolveTrace(SolveTrace outer, SolveControl control) {
+        this.outer = outer;
+        this.control = control;
+    }
+
+    // Mesures de la résolution en cours sur ce thread, null si l'instrumentation est coupée
+    static SolveTrace current() {
+        return ACTIVE.get();
+    }
+
+    // Active une trace neuve sur ce thread, sous le contrôle de la trace en place s'il y en a un ;
+    // à refermer par stop()
+    static SolveTrace start() {
+        SolveTrace outer = ACTIVE.get();
+        return start(outer == null ? null : outer.control);
+    }
+
+    static SolveTrace start(SolveControl control) {
+        SolveTrace trace = new SolveTrace(ACTIVE.get(), control);
+        trace.phaseStart = System.nanoTime();
+        ACTIVE.set(trace);
+        return trace;
+    }
+
+    void stop() {
+        closePhase(SEARCH);
+        if (outer == null) {
+            ACTIVE.remove();
+        } else {
+            ACTIVE.set(outer);
+        }
+    }
+
+    // Passe à la phase donnée
+    void phase(int next) {
+        closePhase(next);
+        if (control != null && control.checkpoint(explored, lastFrontier)) {
+            throw stopped();
+        }
+    }
+
+    private void closePhase(int next) {
+        long now = System.nanoTime();
+        phaseNanos[phase] += now - phaseStart;
+        phaseStart = now;
+        phase = next;
+    }
+
+    // Une case développée ; size est la taille courante de la file, de la pile ou du tas (seule la plus
+    // grande est gardée)
+    void frontier(int size) {
+        frontier(size, 1);
+    }
+
+    // cells cases développées d'un coup (un niveau entier pour ParallelBfsSolver)
+    void frontier(int size, int cells) {
+        if (size > peakFrontier) {
+            peakFrontier = size;
+        }
+        lastFrontier = size;
+        explored += cells;
+        if (control != null && explored >= nextCheck) {
+            nextCheck = explored + SolveControl.CHECK_INTERVAL;
+            if (control.checkpoint(explored, size)) {
+                throw stopped();
+            }
+        }
+    }
+
+    // Déclare comment remonter de S à une case développée ; sans contrôle, rien n'est gardé
+    void partialPath(MazeSnapshot maze, PartialPath path) {
+        if (control != null) {
+            partialPath = path;
+            goalX = maze.getEndX();
+            goalY = maze.getEndY();
+            cols = maze.getCells().getCols();
+        }
+    }
+
+    // Case développée : retenue si elle est la plus proche de E jusqu'ici
+    void expanded(int cell) {
+        if (partialPath != null) {
+            int x = cell / cols, y = cell - x * cols;
+            int distance = Math.abs(x - goalX) + Math.abs(y - goalY);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestCell = cell;
+            }
+        }
+    }
+
+    // count cases développées d'un coup, lues dans cells (un niveau entier pour ParallelBfsSolver)
+    void expanded(int[] cells, int count) {
+        if (partialPath != null) {
+            for (int i = 0; i < count; i++) {
+                expanded(cells[i]);
+            }
+        }
+    }
+
+    private Stopped stopped() {
+        List<int[]> path = partialPath == null || bestCell < 0 ? new ArrayList<>() : partialPath.to(bestCell);
+        return new Stopped(explored, path);
+    }
+
+    long nanos(int phase) {
+        return phaseNanos[phase];
+    }
+
+    int getPeakFrontier() {
+        return peakFrontier;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.labyrinthsolver;
+
+// Stratégie de résolution d'un labyrinthe : chaque algorithme renvoie un Labyrinth.SolveResult.
+// Les solveurs sont sans état : un même solveur peut résoudre plusieurs instantanés en parallèle.
+public interface Solver {
+    // Nom court de l'algorithme (affiché dans la console et l'interface)
+    String getName();
+
+    // Identité du solveur et de sa configuration pour SolveCache : deux solveurs de même clé doivent
+    // donner le même résultat sur un même labyrinthe. Le nom suffit pour un solveur sans paramètre.
+    default String cacheKey() {
+        return getName();
+    }
+
+    // Cherche un chemin de S à E dans un instantané du labyrinthe
+    Labyrinth.SolveResult solve(MazeSnapshot maze);
+
+    // Résout l'instantané courant du labyrinthe
+    default Labyrinth.SolveResult solve(Labyrinth labyrinth) {
+        return solve(labyrinth.snapshot());
+    }
+
+    // Résout sous un SolveControl (annulation, délai, progression) ; résultat partiel s'il l'arrête
+    default Labyrinth.SolveResult solve(MazeSnapshot maze, SolveControl control) {
+        return control.solve(this, maze);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.labyrinthsolver;
+
+import java.util.List;
+
+// Compare JPS (et A*) à BFS sur des labyrinthes générés de grande taille, sans interface graphique.
+// Lancement : java -cp target/classes org.example.labyrinthsolver.SolverComparison [taille ...]
+public class SolverComparison {
+    private static final int[] DEFAULT_SIZES = {1001, 2001, 4001};
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        List<Solver> solvers = List.of(new BfsSolver(), new AStarSolver(), new JumpPointSolver());
+
+        System.out.printf("%-10s %-6s %12s %12s %10s%n", "Taille", "Algo", "Étapes", "Temps (ms)", "Chemin");
+        for (int size : sizes) {
+            Labyrinth labyrinth = new Labyrinth(null);
+            labyrinth.generateRandomMaze(size, size);
+            int reference = -1; // Longueur du chemin BFS, qui sert de référence
+            for (Solver solver : solvers) {
+                Labyrinth.SolveResult result = solver.solve(labyrinth);
+                int length = result.getPath().size();
+                System.out.printf("%-10s %-6s %12d %12.3f %10d%n", size + "x" + size, solver.getName(),
+                        result.getSteps(), result.getTimeMs(), length);
+                if (reference < 0) {
+                    reference = length;
+                } else if (length != reference) {
+                    System.out.println("  ! " + solver.getName() + " ne trouve pas la même longueur que BFS");
+                }
+            }
+        }
+    }
+}
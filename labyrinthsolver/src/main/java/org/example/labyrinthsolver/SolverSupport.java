@@ -0,0 +1,109 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Fonctions communes aux solveurs (temps écoulé, reconstruction du chemin, tableaux de travail)
+final class SolverSupport {
+    // Au-delà de cette taille (en éléments), un tableau de travail est alloué pour la résolution et non gardé
+    private static final int MAX_POOLED_LENGTH = 1 << 22;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private SolverSupport() {
+    }
+
+    // Tableaux de travail du thread courant. Une résolution ne doit pas en appeler une autre sur le même
+    // thread pendant qu'elle les utilise ; chaque solveur documente les emplacements qu'il prend.
+    static Scratch scratch() {
+        return SCRATCH.get();
+    }
+
+    // Tableaux réutilisés d'une résolution à l'autre, par emplacement ; seule la plage [0, length) compte
+    static final class Scratch {
+        private final int[][] ints = new int[4][];
+        private final long[][] longs = new long[2][];
+        private final byte[][] bytes = new byte[2][];
+
+        // Au moins length entiers, contenu quelconque
+        int[] ints(int slot, int length) {
+            int[] array = ints[slot];
+            if (array == null || array.length < length) {
+                array = new int[length];
+                if (length <= MAX_POOLED_LENGTH) {
+                    ints[slot] = array;
+                }
+            }
+            return array;
+        }
+
+        // Au moins length entiers, remis à zéro sur [0, length)
+        int[] clearedInts(int slot, int length) {
+            int[] array = ints(slot, length);
+            Arrays.fill(array, 0, length, 0);
+            return array;
+        }
+
+        // Au moins length mots de 64 bits, contenu quelconque
+        long[] longs(int slot, int length) {
+            long[] array = longs[slot];
+            if (array == null || array.length < length) {
+                array = new long[length];
+                if (length <= MAX_POOLED_LENGTH) {
+                    longs[slot] = array;
+                }
+            }
+            return array;
+        }
+
+        long[] clearedLongs(int slot, int length) {
+            long[] array = longs(slot, length);
+            Arrays.fill(array, 0, length, 0L);
+            return array;
+        }
+
+        // Au moins length octets, remis à zéro sur [0, length)
+        byte[] clearedBytes(int slot, int length) {
+            byte[] array = bytes[slot];
+            if (array == null || array.length < length) {
+                array = new byte[length];
+                if (length <= MAX_POOLED_LENGTH) {
+                    bytes[slot] = array;
+                }
+            } else {
+                Arrays.fill(array, 0, length, (byte) 0);
+            }
+            return array;
+        }
+    }
+
+    // Temps écoulé depuis startTime (System.nanoTime()) en millisecondes
+    static double elapsedMs(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    // Reconstruit le chemin (de S à E) à partir d'un tableau parent[i] = indice du parent + 1
+    static List<int[]> reconstructPath(int[] parent, int start, int end, int cols) {
+        List<int[]> path = new ArrayList<>();
+        int current = end;
+        while (true) {
+            path.add(new int[]{current / cols, current % cols});
+            if (current == start) {
+                break;
+            }
+            current = parent[current] - 1;
+        }
+        Collections.reverse(path); // Inverse le chemin pour aller de S à E
+        return path;
+    }
+
+    // Convertit les count premiers indices de cases en liste de coordonnées
+    static List<int[]> toPath(int[] cells, int count, int cols) {
+        List<int[]> path = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            path.add(new int[]{cells[i] / cols, cells[i] % cols});
+        }
+        return path;
+    }
+}
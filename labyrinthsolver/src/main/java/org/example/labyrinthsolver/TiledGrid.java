@@ -0,0 +1,347 @@
+package org.example.labyrinthsolver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Grille découpée en tuiles carrées, lue dans un fichier projeté en mémoire : le stockage de la grille
+// reste hors du tas. Une tuile n'est copiée en mémoire qu'au premier accès et seules les
+// maxResidentTiles dernières utilisées sont gardées (LRU).
+// Sert à charger, afficher et convertir une grille qui ne tiendrait pas dans le tas. Seule la grille est
+// hors du tas : les solveurs, l'index des composantes et les cartes de distances gardent un état d'au
+// moins un entier par case dans le tas (Integer.MAX_VALUE cases au plus). Résoudre un labyrinthe tuilé
+// demande donc que cet état y tienne, comme pour une Grid.
+// Format (petit-boutiste) : en-tête de 40 octets (signature "\u0089LAT", version, rangées, colonnes,
+// côté des tuiles, départ x/y, sortie x/y) puis les tuiles rangée par rangée, un bit par case
+// (1 = mur, bit lx * côté + ly dans la tuile).
+public final class TiledGrid implements CellGrid {
+    public static final int DEFAULT_TILE_SIZE = 512; // 32 Ko par tuile
+    public static final int DEFAULT_MAX_RESIDENT_TILES = 256; // 8 Mo de tuiles en mémoire au plus
+    private static final byte[] MAGIC = {(byte) 0x89, 'L', 'A', 'T'};
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+    private static final long CHUNK_SIZE = 1L << 30; // Taille maximale d'une projection
+    private static final int MIN_TILE_SIZE = 8, MAX_TILE_SIZE = 4096;
+    private static final int TEXT_BAND_ROWS = 64; // Rangées de texte lues entre deux passages au TileWriter
+    private static final AtomicInteger GRIDS = new AtomicInteger(); // Numéros des grilles ouvertes
+    // Dernière tuile lue par le thread, toutes grilles confondues : les accès voisins évitent la table et
+    // son verrou. Une tuile est immuable et ne retient pas sa grille.
+    private static final ThreadLocal<Tile> LAST = ThreadLocal.withInitial(() -> new Tile(0, -1, null));
+
+    private final int rows, cols;
+    private final int tileSize, shift, mask, tileCols, wordsPerTile;
+    private final int startX, startY, endX, endY;
+    private final LongBuffer[] chunks; // Projections du fichier (hors en-tête), 1 Gio au plus chacune
+    private final int maxResidentTiles;
+    private final Map<Integer, Tile> resident; // Ordre d'accès : la première entrée est la moins récente
+    private final int serial = GRIDS.incrementAndGet(); // Distingue les tuiles de cette grille dans LAST
+    private long tileLoads;
+
+    // Tuile chargée, jamais modifiée : peut être lue par plusieurs threads
+    private static final class Tile {
+        final int grid, id;
+        final long[] words;
+
+        Tile(int grid, int id, long[] words) {
+            this.grid = grid;
+            this.id = id;
+            this.words = words;
+        }
+    }
+
+    private TiledGrid(int rows, int cols, int tileSize, int startX, int startY, int endX, int endY,
+                      LongBuffer[] chunks, int maxResidentTiles) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileSize = tileSize;
+        this.shift = Integer.numberOfTrailingZeros(tileSize);
+        this.mask = tileSize - 1;
+        this.tileCols = (cols + mask) >>> shift;
+        this.wordsPerTile = tileSize * tileSize / Long.SIZE;
+        this.startX = startX;
+        this.startY = startY;
+        this.endX = endX;
+        this.endY = endY;
+        this.chunks = chunks;
+        this.maxResidentTiles = maxResidentTiles;
+        this.resident = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Tile> eldest) {
+                return size() > TiledGrid.this.maxResidentTiles;
+            }
+        };
+    }
+
+    // Ouvre un fichier de tuiles ; la projection reste valide après la fermeture du canal
+    public static TiledGrid open(Path path, int maxResidentTiles) throws IOException {
+        if (maxResidentTiles <= 0) {
+            throw new IllegalArgumentException("Le nombre de tuiles en mémoire doit être positif : " + maxResidentTiles);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Fichier de tuiles tronqué : " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Signature de fichier de tuiles absente : " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version de format non prise en charge : " + version);
+            }
+            int rows = header.getInt(), cols = header.getInt(), tileSize = header.getInt();
+            int startX = header.getInt(), startY = header.getInt(), endX = header.getInt(), endY = header.getInt();
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Dimensions invalides : " + rows + "x" + cols);
+            }
+            if (!isValidTileSize(tileSize)) {
+                throw new IOException("Taille de tuile invalide : " + tileSize);
+            }
+            if (startX < 0 || startX >= rows || startY < 0 || startY >= cols
+                    || endX < 0 || endX >= rows || endY < 0 || endY >= cols) {
+                throw new IOException("Départ ou sortie hors du labyrinthe");
+            }
+            long tileCount = (long) ((rows + tileSize - 1) / tileSize) * ((cols + tileSize - 1) / tileSize);
+            long dataSize = tileCount * tileSize * tileSize / 8;
+            if (size < HEADER_SIZE + dataSize) {
+                throw new IOException("Fichier de tuiles tronqué : " + path);
+            }
+            // Une tuile (puissance de deux, 2 Mo au plus) ne chevauche jamais deux projections
+            LongBuffer[] chunks = new LongBuffer[(int) ((dataSize + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + position,
+                        Math.min(CHUNK_SIZE, dataSize - position)).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            }
+            return new TiledGrid(rows, cols, tileSize, startX, startY, endX, endY, chunks, maxResidentTiles);
+        }
+    }
+
+    // Écrit une grille (en mémoire ou tuilée) dans un fichier de tuiles
+    public static void write(Path path, CellGrid grid, int startX, int startY, int endX, int endY,
+                             int tileSize) throws IOException {
+        try (TileWriter writer = new TileWriter(path, grid.getCols(), tileSize)) {
+            for (int i = 0; i < grid.getRows(); i++) {
+                for (int j = 0; j < grid.getCols(); j++) {
+                    if (grid.isWall(i, j)) {
+                        writer.setWall(j);
+                    }
+                }
+                writer.endRow(grid.getCols());
+            }
+            writer.finish(startX, startY, endX, endY);
+        }
+    }
+
+    // Convertit un fichier texte en fichier de tuiles sans jamais charger toute la grille : le texte est
+    // lu par bandes (MazeFiles.readTextBands) et seule la bande de tuiles en cours est en mémoire.
+    // Mêmes règles que le chargement texte : largeur de la première ligne, lignes courtes murées.
+    public static void convertText(Path text, Path tiles, int tileSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(text, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IOException("Fichier de labyrinthe vide : " + text);
+            }
+            int cols = MazeFiles.checkedWidth(MazeFiles.measureFirstLine(channel, size)[0]);
+            try (TileWriter writer = new TileWriter(tiles, cols, tileSize)) {
+                int[] endpoints = MazeFiles.readTextBands(channel, cols,
+                        Math.max(1, Math.min(TEXT_BAND_ROWS, Integer.MAX_VALUE / cols)), writer::addRows);
+                writer.finish(endpoints[0], endpoints[1], endpoints[2], endpoints[3]);
+            }
+        }
+    }
+
+    private static boolean isValidTileSize(int tileSize) {
+        return tileSize >= MIN_TILE_SIZE && tileSize <= MAX_TILE_SIZE && Integer.bitCount(tileSize) == 1;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        int id = (x >>> shift) * tileCols + (y >>> shift);
+        Tile tile = LAST.get();
+        if (tile.id != id || tile.grid != serial) {
+            tile = tile(id);
+            LAST.set(tile);
+        }
+        int bit = ((x & mask) << shift) | (y & mask);
+        return (tile.words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    @Override
+    public boolean isWallAt(int index) {
+        int x = index / cols;
+        return isWall(x, index - x * cols);
+    }
+
+    // Tuile id, chargée depuis la projection si elle n'est plus en mémoire (seul accès à la table partagée)
+    private Tile tile(int id) {
+        synchronized (resident) {
+            Tile tile = resident.get(id);
+            if (tile == null) {
+                long first = (long) id * wordsPerTile;
+                int wordsPerChunk = (int) (CHUNK_SIZE / Long.BYTES);
+                long[] words = new long[wordsPerTile];
+                chunks[(int) (first / wordsPerChunk)].get((int) (first % wordsPerChunk), words);
+                tile = new Tile(serial, id, words);
+                resident.put(id, tile);
+                tileLoads++;
+            }
+            return tile;
+        }
+    }
+
+    public int getStartX() {
+        return startX;
+    }
+
+    public int getStartY() {
+        return startY;
+    }
+
+    public int getEndX() {
+        return endX;
+    }
+
+    public int getEndY() {
+        return endY;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getMaxResidentTiles() {
+        return maxResidentTiles;
+    }
+
+    // Nombre de tuiles actuellement en mémoire
+    public int getResidentTiles() {
+        synchronized (resident) {
+            return resident.size();
+        }
+    }
+
+    // Nombre de tuiles lues depuis le fichier (défauts de cache)
+    public long getTileLoads() {
+        synchronized (resident) {
+            return tileLoads;
+        }
+    }
+
+    // Écrit un fichier de tuiles rangée par rangée : une bande de tileSize rangées est gardée en mémoire
+    // puis écrite tuile par tuile. L'en-tête est écrit à la fin, quand le nombre de rangées est connu.
+    private static final class TileWriter implements Closeable {
+        private final FileChannel channel;
+        private final int cols, shift, mask, tileSize;
+        private final long[][] band; // Tuiles de la bande en cours, de gauche à droite
+        private final ByteBuffer buffer;
+        int row; // Rangée en cours d'écriture
+
+        TileWriter(Path path, int cols, int tileSize) throws IOException {
+            if (!isValidTileSize(tileSize)) {
+                throw new IllegalArgumentException("La taille de tuile doit être une puissance de deux entre "
+                        + MIN_TILE_SIZE + " et " + MAX_TILE_SIZE + " : " + tileSize);
+            }
+            this.cols = cols;
+            this.tileSize = tileSize;
+            this.shift = Integer.numberOfTrailingZeros(tileSize);
+            this.mask = tileSize - 1;
+            this.band = new long[(cols + mask) >>> shift][tileSize * tileSize / Long.SIZE];
+            this.buffer = ByteBuffer.allocateDirect(tileSize * tileSize / 8).order(ByteOrder.LITTLE_ENDIAN);
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_SIZE);
+        }
+
+        void setWall(int col) {
+            int bit = ((row & mask) << shift) | (col & mask);
+            band[col >>> shift][bit >>> 6] |= 1L << bit;
+        }
+
+        // Ajoute count rangées complètes, bits rangés comme dans une Grid (MazeFiles.BandSink)
+        void addRows(long[] words, int count) throws IOException {
+            for (int r = 0; r < count; r++) {
+                int from = r * cols, to = from + cols;
+                for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+                    long bits = words[w];
+                    if (w == from >>> 6) {
+                        bits &= -1L << from; // Cases de la rangée précédente
+                    }
+                    if (w == (to - 1) >>> 6 && (to & 63) != 0) {
+                        bits &= (1L << to) - 1; // Cases de la rangée suivante
+                    }
+                    while (bits != 0) {
+                        setWall((w << 6) + Long.numberOfTrailingZeros(bits) - from);
+                        bits &= bits - 1;
+                    }
+                }
+                endRow(cols);
+            }
+        }
+
+        // Termine la rangée en murant les cases à partir de filled
+        void endRow(int filled) throws IOException {
+            if ((long) (row + 1) * cols > Integer.MAX_VALUE) {
+                throw new IOException("Labyrinthe trop grand : plus de " + Integer.MAX_VALUE + " cases");
+            }
+            for (int j = filled; j < cols; j++) {
+                setWall(j);
+            }
+            row++;
+            if ((row & mask) == 0) {
+                flushBand();
+            }
+        }
+
+        private void flushBand() throws IOException {
+            for (long[] tile : band) {
+                buffer.clear();
+                buffer.asLongBuffer().put(tile);
+                MazeFiles.writeFully(channel, buffer);
+                Arrays.fill(tile, 0L);
+            }
+        }
+
+        void finish(int startX, int startY, int endX, int endY) throws IOException {
+            if (row == 0) {
+                throw new IOException("Labyrinthe vide");
+            }
+            if ((row & mask) != 0) {
+                flushBand(); // Dernière bande incomplète
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.put(MAGIC).putInt(VERSION).putInt(row).putInt(cols).putInt(tileSize)
+                    .putInt(startX).putInt(startY).putInt(endX).putInt(endY).rewind();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
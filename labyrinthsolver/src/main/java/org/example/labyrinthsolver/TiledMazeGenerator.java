@@ -0,0 +1,213 @@
+package org.example.labyrinthsolver;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Génération parallèle et reproductible. Les « salles » sont les cases de coordonnées impaires, comme
+// pour le Recursive Backtracking de Labyrinth. Leur réseau est découpé en tuiles carrées ; chaque tuile
+// est creusée indépendamment (backtracking itératif, puis quelques murs internes ouverts pour créer des
+// chemins alternatifs) avec son propre SplittableRandom. Les tuiles sont ensuite reliées par un arbre
+// couvrant aléatoire : une ouverture par arête de l'arbre, donc tout le labyrinthe est connexe sans
+// vérification. Les générateurs des tuiles sont tirés dans l'ordre des tuiles avant le calcul parallèle :
+// une même graine donne le même labyrinthe quel que soit le nombre de threads.
+final class TiledMazeGenerator {
+    static final int DEFAULT_TILE_ROOMS = 128; // Côté d'une tuile en salles (257 cases)
+    private static final double LOOP_CHANCE = 0.1; // Chance d'ouvrir un mur interne restant entre deux salles
+
+    private final int rows, cols;
+    private final int roomRows, roomCols; // Salles (2r + 1, 2c + 1) à l'intérieur du bord
+    private final int tileRooms, tileRows, tileCols;
+
+    private TiledMazeGenerator(int rows, int cols, int tileRooms) {
+        this.rows = rows;
+        this.cols = cols;
+        this.roomRows = (rows - 1) / 2;
+        this.roomCols = (cols - 1) / 2;
+        this.tileRooms = tileRooms;
+        this.tileRows = (roomRows + tileRooms - 1) / tileRooms;
+        this.tileCols = (roomCols + tileRooms - 1) / tileRooms;
+    }
+
+    // Grille murée sauf les passages ; (1, 1) et (rows - 2, cols - 2) sont ouverts et reliés
+    static Grid generate(int rows, int cols, long seed, int tileRooms) {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("Labyrinthe trop petit : " + rows + "x" + cols);
+        }
+        if (tileRooms < 2) {
+            throw new IllegalArgumentException("Tuile trop petite : " + tileRooms);
+        }
+        return new TiledMazeGenerator(rows, cols, tileRooms).run(seed);
+    }
+
+    private Grid run(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        int tiles = tileRows * tileCols;
+        SplittableRandom[] randoms = new SplittableRandom[tiles];
+        for (int t = 0; t < tiles; t++) {
+            randoms[t] = root.split();
+        }
+        // Chaque tuile creuse dans ses propres bits : des tuiles voisines partagent des mots de la grille
+        long[][] opened = new long[tiles][];
+        IntStream.range(0, tiles).parallel().forEach(t -> opened[t] = carveTile(t, randoms[t]));
+
+        Grid grid = new Grid(rows, cols, true);
+        long[] words = grid.words();
+        // Recopie par bandes de mots entiers : chaque mot de la grille n'est écrit que par une tâche
+        int[][] rowIndex = axisIndex(rows, roomRows, tileRooms, tileRows);
+        int[][] colIndex = axisIndex(cols, roomCols, tileRooms, tileCols);
+        int bands = (words.length + 1023) >>> 10;
+        IntStream.range(0, bands).parallel().forEach(b -> copyBand(words, b << 10,
+                Math.min(words.length, (b + 1) << 10), opened, rowIndex, colIndex));
+
+        stitch(grid, root);
+        // La sortie n'est pas une salle quand une dimension est paire : on la relie à la salle la plus proche
+        int roomX = 2 * roomRows - 1, roomY = 2 * roomCols - 1;
+        for (int x = roomX; x <= rows - 2; x++) {
+            grid.setWall(x, roomY, false);
+        }
+        for (int y = roomY; y <= cols - 2; y++) {
+            grid.setWall(rows - 2, y, false);
+        }
+        return grid;
+    }
+
+    // Rectangle de cases {x0, y0, x1, y1} creusé par la tuile t (sans les murs qui la séparent des autres)
+    private int[] bounds(int t) {
+        int r0 = (t / tileCols) * tileRooms, c0 = (t % tileCols) * tileRooms;
+        int r1 = Math.min(r0 + tileRooms, roomRows), c1 = Math.min(c0 + tileRooms, roomCols);
+        return new int[]{2 * r0 + 1, 2 * c0 + 1, 2 * r1, 2 * c1};
+    }
+
+    // Creuse la tuile : bits locaux (ligne par ligne sur son rectangle) à 1 pour les cases ouvertes
+    private long[] carveTile(int t, SplittableRandom random) {
+        int[] b = bounds(t);
+        int width = b[3] - b[1];
+        int height = b[2] - b[0];
+        long[] open = new long[(height * width + 63) >>> 6];
+        int roomsWide = (width + 1) / 2, roomsHigh = (height + 1) / 2;
+        long[] visited = new long[(roomsHigh * roomsWide + 63) >>> 6];
+        int[] stack = new int[64];
+        int depth = 0;
+        int[] candidates = new int[4];
+
+        stack[depth++] = 0;
+        visited[0] = 1L;
+        setOpen(open, 0);
+        while (depth > 0) {
+            int room = stack[depth - 1];
+            int r = room / roomsWide, c = room - r * roomsWide;
+            int count = 0;
+            if (c + 1 < roomsWide && !isSet(visited, room + 1)) candidates[count++] = room + 1;
+            if (r + 1 < roomsHigh && !isSet(visited, room + roomsWide)) candidates[count++] = room + roomsWide;
+            if (c > 0 && !isSet(visited, room - 1)) candidates[count++] = room - 1;
+            if (r > 0 && !isSet(visited, room - roomsWide)) candidates[count++] = room - roomsWide;
+            if (count == 0) {
+                depth--; // Plus de salle voisine à visiter : retour arrière
+                continue;
+            }
+            int next = candidates[random.nextInt(count)];
+            int nr = next / roomsWide, nc = next - nr * roomsWide;
+            visited[next >>> 6] |= 1L << next;
+            setOpen(open, (r + nr) * width + c + nc); // Mur entre les deux salles
+            setOpen(open, 2 * nr * width + 2 * nc);
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = next;
+        }
+
+        // Chemins alternatifs : quelques murs internes restants entre deux salles
+        for (int x = 0; x < height; x++) {
+            for (int y = (x & 1) == 0 ? 1 : 0; y < width; y += 2) {
+                int cell = x * width + y;
+                if (!isSet(open, cell) && random.nextDouble() < LOOP_CHANCE) {
+                    setOpen(open, cell);
+                }
+            }
+        }
+        return open;
+    }
+
+    // Ouvre les cases des mots [from, to) de la grille d'après les bits des tuiles
+    private void copyBand(long[] words, int from, int to, long[][] opened, int[][] rowIndex, int[][] colIndex) {
+        long cells = (long) rows * cols;
+        long end = Math.min((long) to << 6, cells);
+        long i = (long) from << 6;
+        int x = (int) (i / cols), y = (int) (i - (long) x * cols);
+        for (; i < end; i++) {
+            int tr = rowIndex[0][x], tc = colIndex[0][y];
+            if (tr >= 0 && tc >= 0) {
+                int t = tr * tileCols + tc;
+                if (isSet(opened[t], rowIndex[1][x] * colIndex[2][tc] + colIndex[1][y])) {
+                    words[(int) (i >>> 6)] &= ~(1L << i);
+                }
+            }
+            if (++y == cols) {
+                y = 0;
+                x++;
+            }
+        }
+    }
+
+    // Pour chaque ligne (ou colonne) de la grille : {tuile, position locale}, tuile -1 pour le bord, un mur
+    // entre deux tuiles ou la bande restante d'une dimension paire ; plus la largeur de chaque tuile
+    private static int[][] axisIndex(int length, int rooms, int tileRooms, int tiles) {
+        int[] tile = new int[length], local = new int[length], size = new int[tiles];
+        Arrays.fill(tile, -1);
+        for (int t = 0; t < tiles; t++) {
+            int from = 2 * t * tileRooms + 1, to = 2 * Math.min((t + 1) * tileRooms, rooms);
+            size[t] = to - from;
+            for (int k = from; k < to; k++) {
+                tile[k] = t;
+                local[k] = k - from;
+            }
+        }
+        return new int[][]{tile, local, size};
+    }
+
+    // Relie les tuiles par un arbre couvrant aléatoire (parcours en profondeur sur le réseau des tuiles)
+    private void stitch(Grid grid, SplittableRandom random) {
+        int tiles = tileRows * tileCols;
+        boolean[] visited = new boolean[tiles];
+        int[] stack = new int[tiles];
+        int depth = 0;
+        int[] candidates = new int[4];
+        stack[depth++] = 0;
+        visited[0] = true;
+        while (depth > 0) {
+            int tile = stack[depth - 1];
+            int tr = tile / tileCols, tc = tile - tr * tileCols;
+            int count = 0;
+            if (tc + 1 < tileCols && !visited[tile + 1]) candidates[count++] = tile + 1;
+            if (tr + 1 < tileRows && !visited[tile + tileCols]) candidates[count++] = tile + tileCols;
+            if (tc > 0 && !visited[tile - 1]) candidates[count++] = tile - 1;
+            if (tr > 0 && !visited[tile - tileCols]) candidates[count++] = tile - tileCols;
+            if (count == 0) {
+                depth--;
+                continue;
+            }
+            int next = candidates[random.nextInt(count)];
+            visited[next] = true;
+            stack[depth++] = next;
+            int a = Math.min(tile, next), b = Math.max(tile, next);
+            int[] first = bounds(a);
+            if (a / tileCols == b / tileCols) {
+                // Tuiles côte à côte : ouvre le mur de la colonne qui les sépare, en face d'une salle
+                int room = random.nextInt((first[2] - first[0] + 1) / 2);
+                grid.setWall(first[0] + 2 * room, first[3], false);
+            } else {
+                int room = random.nextInt((first[3] - first[1] + 1) / 2);
+                grid.setWall(first[2], first[1] + 2 * room, false);
+            }
+        }
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void setOpen(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+}
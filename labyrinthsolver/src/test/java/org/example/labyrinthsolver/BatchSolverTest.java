@@ -0,0 +1,114 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSolverTest {
+    private static final String HEADER = "file,algorithm,found,path_length,steps,time_ms,error";
+
+    @TempDir
+    Path dir;
+
+    // Dossier développé récursivement, fichiers .txt et .lab seulement, triés par nom
+    @Test
+    void collectsMazeFilesSortedByName() throws IOException {
+        List<Path> expected = writeMazes();
+        Files.writeString(dir.resolve("notes.md"), "pas un labyrinthe");
+        assertEquals(expected, BatchSolver.collectFiles(List.of(dir)));
+    }
+
+    // Un enregistrement par fichier après l'en-tête, jamais entremêlés ; les fichiers illisibles donnent
+    // une erreur de lecture sans arrêter le lot
+    @Test
+    void writesOneCsvRecordPerFile() throws Exception {
+        List<Path> files = new ArrayList<>(writeMazes());
+        Path missing = dir.resolve("absent.txt");
+        files.add(missing);
+        StringWriter out = new StringWriter();
+        int errors = new BatchSolver(new BfsSolver(), 3, false).run(files, out);
+        assertEquals(2, errors); // empty.txt et absent.txt
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(HEADER, lines[0]);
+        assertEquals(files.size() + 1, lines.length);
+        Map<String, String[]> records = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(",", -1);
+            assertEquals(7, fields.length, lines[i]);
+            assertEquals("BFS", fields[1]);
+            records.put(fields[0], fields);
+        }
+        assertEquals(files.size(), records.size()); // Chaque fichier une seule fois
+
+        for (String name : List.of("a.txt", "b.lab", "sub/c.txt")) {
+            String[] record = records.get(dir.resolve(name).toString());
+            MazeSnapshot maze = load(dir.resolve(name));
+            assertEquals("true", record[2], name);
+            assertEquals(String.valueOf(TestMazes.shortestPathLength(maze)), record[3], name);
+            assertTrue(Integer.parseInt(record[4]) > 0, name);
+            assertEquals("", record[6], name);
+        }
+        String[] walled = records.get(dir.resolve("walled.txt").toString());
+        assertEquals("false", walled[2]);
+        assertEquals("0", walled[3]);
+        assertEquals("", walled[6]);
+        for (Path unreadable : List.of(dir.resolve("empty.txt"), missing)) {
+            String[] record = records.get(unreadable.toString());
+            assertEquals("false", record[2]);
+            assertEquals("", record[3]);
+            assertTrue(record[6].startsWith("lecture : "), record[6]);
+        }
+    }
+
+    @Test
+    void writesJsonLines() throws Exception {
+        List<Path> files = writeMazes();
+        StringWriter out = new StringWriter();
+        int errors = new BatchSolver(new AStarSolver(), 2, true).run(files, out);
+        assertEquals(1, errors);
+        String[] lines = out.toString().split("\n");
+        assertEquals(files.size(), lines.length); // Pas d'en-tête
+        int found = 0;
+        for (String line : lines) {
+            assertTrue(line.startsWith("{\"file\":\"") && line.endsWith("}"), line);
+            assertTrue(line.contains("\"algorithm\":\"A*\""), line);
+            if (line.contains("\"found\":true")) {
+                found++;
+            }
+            if (line.contains("empty.txt")) {
+                assertTrue(line.contains("\"error\":\"lecture : "), line);
+            }
+        }
+        assertEquals(3, found);
+    }
+
+    // Trois labyrinthes résolubles (dont un binaire, un dans un sous-dossier), un sans chemin et un vide
+    private List<Path> writeMazes() throws IOException {
+        Files.createDirectories(dir.resolve("sub"));
+        MazeFiles.writeText(dir.resolve("a.txt"), MazeFilesTest.data(TestMazes.generated(21, 31, 1)));
+        MazeFiles.writeBinary(dir.resolve("b.lab"), MazeFilesTest.data(TestMazes.generated(41, 21, 2)));
+        MazeFiles.writeText(dir.resolve("sub/c.txt"), MazeFilesTest.data(TestMazes.generated(15, 15, 3)));
+        Files.writeString(dir.resolve("walled.txt"), "S#=\n##=\n==E\n");
+        Files.writeString(dir.resolve("empty.txt"), "");
+        return List.of(dir.resolve("a.txt"), dir.resolve("b.lab"), dir.resolve("empty.txt"),
+                dir.resolve("sub/c.txt"), dir.resolve("walled.txt"));
+    }
+
+    private static MazeSnapshot load(Path file) throws IOException {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.loadFromFile(file.toString());
+        return labyrinth.snapshot();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BfsSolverTest {
+    @Test
+    void findsShortestPathInSmallMaze() {
+        MazeSnapshot maze = TestMazes.fromText(
+                "######",
+                "S=#==#",
+                "#=#=##",
+                "#===E#",
+                "######");
+        Labyrinth.SolveResult result = new BfsSolver().solve(maze);
+        assertTrue(result.isPathFound());
+        TestMazes.assertValidPath(maze, result.getPath());
+        assertEquals(7, result.getPath().size());
+    }
+
+    @Test
+    void reportsMissingPath() {
+        MazeSnapshot maze = TestMazes.fromText(
+                "#####",
+                "#S#E#",
+                "#####");
+        Labyrinth.SolveResult result = new BfsSolver().solve(maze);
+        assertFalse(result.isPathFound());
+        assertTrue(result.getPath().isEmpty());
+    }
+
+    @Test
+    void pathLengthMatchesReferenceBfs() {
+        for (long seed = 0; seed < 200; seed++) {
+            MazeSnapshot maze = seed % 2 == 0
+                    ? TestMazes.generated(11 + (int) (seed % 40), 13 + (int) (seed % 30), seed)
+                    : TestMazes.randomWalls(20, 30, 0.3, seed);
+            Labyrinth.SolveResult result = new BfsSolver().solve(maze);
+            int expected = TestMazes.shortestPathLength(maze);
+            assertEquals(expected > 0, result.isPathFound(), "graine " + seed);
+            if (result.isPathFound()) {
+                TestMazes.assertValidPath(maze, result.getPath());
+                assertEquals(expected, result.getPath().size(), "graine " + seed);
+            }
+        }
+    }
+
+    // Les tableaux de travail réutilisés ne doivent pas fausser la résolution suivante
+    @Test
+    void scratchReuseDoesNotLeakBetweenSolves() {
+        BfsSolver solver = new BfsSolver();
+        MazeSnapshot large = TestMazes.generated(101, 101, 1);
+        MazeSnapshot small = TestMazes.generated(21, 21, 2);
+        int expected = solver.solve(small).getPath().size();
+        solver.solve(large);
+        assertEquals(expected, solver.solve(small).getPath().size());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// L'index doit répondre comme un parcours complet, pour S et E comme pour des paires quelconques
+class ComponentIndexTest {
+    @Test
+    void connectedMatchesSearch() {
+        for (long seed = 0; seed < 100; seed++) {
+            MazeSnapshot maze = TestMazes.randomWalls(20 + (int) (seed % 30), 30, 0.25 + (seed % 5) * 0.05, seed);
+            ComponentIndex index = maze.componentIndex();
+            CellGrid cells = maze.getCells();
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int k = 0; k < 20; k++) {
+                int fromX = random.nextInt(cells.getRows()), fromY = random.nextInt(cells.getCols());
+                int toX = random.nextInt(cells.getRows()), toY = random.nextInt(cells.getCols());
+                boolean open = !cells.isWall(fromX, fromY) && !cells.isWall(toX, toY);
+                boolean expected = open && TestMazes.shortestPathLength(
+                        new MazeSnapshot(cells, fromX, fromY, toX, toY)) >= 0;
+                assertEquals(expected, index.connected(fromX, fromY, toX, toY), "graine " + seed);
+            }
+        }
+    }
+
+    // Chaque setWall publie un nouvel instantané : hasPath() ne doit jamais lire un index périmé
+    @Test
+    void hasPathFollowsWallChanges() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(25, 25, 3);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int k = 0; k < 200; k++) {
+            int x = 1 + random.nextInt(23), y = 1 + random.nextInt(23);
+            MazeSnapshot maze = labyrinth.snapshot();
+            if ((x != maze.getStartX() || y != maze.getStartY()) && (x != maze.getEndX() || y != maze.getEndY())) {
+                labyrinth.setWall(x, y, random.nextInt(3) != 0); // S et E restent ouverts
+                maze = labyrinth.snapshot();
+            }
+            assertEquals(TestMazes.shortestPathLength(maze) >= 0, labyrinth.hasPath(), "étape " + k);
+        }
+    }
+
+    // Murs et cases hors de la grille n'appartiennent à aucune composante
+    @Test
+    void wallsAndOutsideCellsAreNeverConnected() {
+        MazeSnapshot maze = TestMazes.fromText(
+                "#####",
+                "#S#E#",
+                "#####");
+        ComponentIndex index = maze.componentIndex();
+        assertEquals(0, index.componentOf(0, 0));
+        assertEquals(0, index.componentOf(-1, 2));
+        assertEquals(2, index.getComponentCount());
+        assertFalse(index.connected(1, 1, 1, 3));
+        assertFalse(index.connected(0, 0, 0, 0));
+    }
+}
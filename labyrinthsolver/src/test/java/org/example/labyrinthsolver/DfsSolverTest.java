@@ -0,0 +1,43 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DfsSolverTest {
+    // DFS trouve un chemin valide exactement quand il en existe un (pas forcément le plus court)
+    @Test
+    void findsValidPathWheneverOneExists() {
+        for (long seed = 0; seed < 200; seed++) {
+            MazeSnapshot maze = seed % 2 == 0
+                    ? TestMazes.generated(11 + (int) (seed % 40), 13 + (int) (seed % 30), seed)
+                    : TestMazes.randomWalls(20, 30, 0.3, seed);
+            Labyrinth.SolveResult result = new DfsSolver().solve(maze);
+            assertEquals(TestMazes.shortestPathLength(maze) > 0, result.isPathFound(), "graine " + seed);
+            if (result.isPathFound()) {
+                TestMazes.assertValidPath(maze, result.getPath());
+            }
+        }
+    }
+
+    // Carving et recherche itératifs : un chemin de plusieurs centaines de milliers de cases ne fait pas
+    // déborder la pile d'appels
+    @Test
+    void largeMazeDoesNotOverflowTheStack() {
+        MazeSnapshot maze = TestMazes.generated(1001, 1001, 42);
+        Labyrinth.SolveResult result = new DfsSolver().solve(maze);
+        assertTrue(result.isPathFound());
+        TestMazes.assertValidPath(maze, result.getPath());
+    }
+
+    // Départ muré : aucun chemin
+    @Test
+    void walledStartHasNoPath() {
+        Grid grid = new Grid(5, 5, false);
+        grid.setWall(1, 1, true);
+        MazeSnapshot maze = new MazeSnapshot(grid, 1, 1, 3, 3);
+        assertFalse(new DfsSolver().solve(maze).isPathFound());
+    }
+}
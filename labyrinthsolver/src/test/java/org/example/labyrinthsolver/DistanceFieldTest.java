@@ -0,0 +1,79 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistanceFieldTest {
+    // Distance et chemin de S vers chaque case ouverte, comparés au BFS de référence
+    @Test
+    void distancesFromStartMatchSearch() {
+        for (long seed = 0; seed < 30; seed++) {
+            MazeSnapshot maze = seed % 2 == 0 ? TestMazes.generated(21, 31, seed)
+                    : TestMazes.randomWalls(20, 25, 0.3, seed);
+            DistanceField field = maze.distancesFromStart();
+            CellGrid cells = maze.getCells();
+            for (int x = 0; x < cells.getRows(); x++) {
+                for (int y = 0; y < cells.getCols(); y++) {
+                    if (cells.isWall(x, y)) {
+                        continue;
+                    }
+                    MazeSnapshot target = new MazeSnapshot(cells, maze.getStartX(), maze.getStartY(), x, y);
+                    int expected = TestMazes.shortestPathLength(target);
+                    assertEquals(expected < 0 ? DistanceField.UNREACHABLE : expected - 1, field.distance(x, y),
+                            "graine " + seed + ", case " + x + "," + y);
+                    if (expected >= 0) {
+                        List<int[]> path = field.pathTo(x, y);
+                        TestMazes.assertValidPath(target, path);
+                        assertEquals(expected, path.size());
+                    } else {
+                        assertTrue(field.pathTo(x, y).isEmpty());
+                    }
+                }
+            }
+        }
+    }
+
+    // Plusieurs sources : la distance est celle de la source la plus proche
+    @Test
+    void multiSourceIsMinimumOfSingleSources() {
+        for (long seed = 0; seed < 20; seed++) {
+            MazeSnapshot maze = TestMazes.randomWalls(30, 30, 0.25, seed);
+            CellGrid cells = maze.getCells();
+            SplittableRandom random = new SplittableRandom(seed);
+            int[] sources = new int[1 + random.nextInt(4)];
+            for (int k = 0; k < sources.length; k++) {
+                sources[k] = random.nextInt(cells.getRows() * cells.getCols());
+            }
+            DistanceField combined = DistanceField.build(cells, sources);
+            int[] expected = new int[cells.getRows() * cells.getCols()];
+            Arrays.fill(expected, DistanceField.UNREACHABLE);
+            for (int source : sources) {
+                int[] single = DistanceField.build(cells, source).toArray();
+                for (int i = 0; i < expected.length; i++) {
+                    if (single[i] != DistanceField.UNREACHABLE
+                            && (expected[i] == DistanceField.UNREACHABLE || single[i] < expected[i])) {
+                        expected[i] = single[i];
+                    }
+                }
+            }
+            assertArrayEquals(expected, combined.toArray(), "graine " + seed);
+        }
+    }
+
+    // Les mêmes sources, dans n'importe quel ordre, réutilisent la carte gardée par l'instantané
+    @Test
+    void snapshotReusesFields() {
+        MazeSnapshot maze = TestMazes.generated(21, 21, 1);
+        int a = maze.getCells().index(1, 1), b = maze.getCells().index(19, 19);
+        assertSame(maze.distanceField(a, b), maze.distanceField(b, a, a));
+        assertSame(maze.distancesFromStart(), maze.distancesFromStart());
+    }
+}
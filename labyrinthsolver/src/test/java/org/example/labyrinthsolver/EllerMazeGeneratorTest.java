@@ -0,0 +1,97 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EllerMazeGeneratorTest {
+    // Largeurs autour de 64 : les rangées binaires ne sont pas alignées sur les mots
+    private static final int[][] SIZES = {{4, 4}, {5, 7}, {21, 63}, {17, 64}, {13, 65}, {9, 130}, {101, 37}};
+
+    @TempDir
+    Path dir;
+
+    // Le texte et le binaire d'une même graine se relisent en grilles identiques
+    @Test
+    void textAndBinaryGiveSameGrid() throws IOException {
+        Path text = dir.resolve("maze.txt"), binary = dir.resolve("maze.lab");
+        for (int[] size : SIZES) {
+            try (Writer out = Files.newBufferedWriter(text)) {
+                EllerMazeGenerator.writeText(size[0], size[1], 7, out);
+            }
+            EllerMazeGenerator.writeBinary(size[0], size[1], 7, binary);
+            MazeFiles.MazeData fromText = MazeFiles.readText(text), fromBinary = MazeFiles.readBinary(binary);
+            String context = size[0] + "x" + size[1];
+            assertArrayEquals(fromText.grid.words(), fromBinary.grid.words(), context);
+            assertEquals(size[0], fromBinary.grid.getRows(), context);
+            assertEquals(size[1], fromBinary.grid.getCols(), context);
+            assertEquals(fromText.startX, fromBinary.startX, context);
+            assertEquals(fromText.startY, fromBinary.startY, context);
+            assertEquals(fromText.endX, fromBinary.endX, context);
+            assertEquals(fromText.endY, fromBinary.endY, context);
+        }
+    }
+
+    // Labyrinthe parfait : cases ouvertes d'un seul tenant et sans cycle (autant de passages que de cases
+    // moins un), avec un chemin de S en (1, 1) à E en (rows - 2, cols - 2)
+    @Test
+    void generatesPerfectMaze() throws IOException {
+        Path binary = dir.resolve("maze.lab");
+        for (int[] size : SIZES) {
+            for (long seed = 0; seed < 5; seed++) {
+                EllerMazeGenerator.writeBinary(size[0], size[1], seed, binary);
+                MazeFiles.MazeData data = MazeFiles.readBinary(binary);
+                MazeSnapshot maze = new MazeSnapshot(data.grid, data.startX, data.startY, data.endX, data.endY);
+                String context = size[0] + "x" + size[1] + ", graine " + seed;
+                assertEquals(1, data.startX, context);
+                assertEquals(1, data.startY, context);
+                assertEquals(size[0] - 2, data.endX, context);
+                assertEquals(size[1] - 2, data.endY, context);
+                assertEquals(1, maze.componentIndex().getComponentCount(), context);
+                int open = 0, passages = 0;
+                for (int x = 0; x < size[0]; x++) {
+                    for (int y = 0; y < size[1]; y++) {
+                        if (!data.grid.isWall(x, y)) {
+                            open++;
+                            if (x + 1 < size[0] && !data.grid.isWall(x + 1, y)) passages++;
+                            if (y + 1 < size[1] && !data.grid.isWall(x, y + 1)) passages++;
+                        }
+                    }
+                }
+                assertEquals(open - 1, passages, context);
+                TestMazes.assertValidPath(maze, new BfsSolver().solve(maze).getPath());
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameMaze() throws IOException {
+        assertEquals(text(51, 67, 3), text(51, 67, 3));
+        assertNotEquals(text(51, 67, 3), text(51, 67, 4));
+    }
+
+    // En dessous de 4, S et E tomberaient sur la même case
+    @Test
+    void rejectsTooSmallMazes() {
+        assertThrows(IllegalArgumentException.class, () -> text(3, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> text(10, 3, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> EllerMazeGenerator.writeBinary(3, 3, 1, dir.resolve("maze.lab")));
+    }
+
+    private static String text(int rows, int cols, long seed) throws IOException {
+        StringWriter out = new StringWriter();
+        EllerMazeGenerator.writeText(rows, cols, seed, out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridTest {
+    // '#' est un mur, tout le reste est ouvert ; une ligne courte est complétée par des murs
+    @Test
+    void fromCharsReadsWallsAndPadsShortRows() {
+        Grid grid = Grid.fromChars(new char[][]{"S=#=".toCharArray(), "#=".toCharArray(), "==E#".toCharArray()});
+        assertEquals(3, grid.getRows());
+        assertEquals(4, grid.getCols());
+        String expected = "..#." + "#.##" + "...#";
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 4; y++) {
+                assertEquals(expected.charAt(x * 4 + y) == '#', grid.isWall(x, y), "case " + x + "," + y);
+                assertEquals(grid.isWall(x, y), grid.isWallAt(grid.index(x, y)));
+            }
+        }
+    }
+
+    // Cases de part et d'autre d'une frontière de mot de 64 bits
+    @Test
+    void setWallTouchesOnlyItsCell() {
+        Grid grid = new Grid(7, 19, false);
+        for (int index = 0; index < 7 * 19; index++) {
+            grid.setWallAt(index, true);
+            for (int other = 0; other < 7 * 19; other++) {
+                assertEquals(other == index, grid.isWallAt(other), index + " / " + other);
+            }
+            grid.setWallAt(index, false);
+        }
+    }
+
+    // Les bits au-delà de la dernière case restent à 0 : deux grilles identiques ont les mêmes mots
+    @Test
+    void fillKeepsTailBitsClear() {
+        Grid walled = new Grid(5, 13, true);
+        Grid set = new Grid(5, 13, false);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 13; y++) {
+                assertTrue(walled.isWall(x, y));
+                set.setWall(x, y, true);
+            }
+        }
+        assertArrayEquals(set.words(), walled.words());
+        walled.fill(false);
+        assertArrayEquals(new long[Grid.wordCount(5, 13)], walled.words());
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Grid grid = new Grid(4, 4, false);
+        Grid copy = grid.copy();
+        copy.setWall(2, 3, true);
+        assertFalse(grid.isWall(2, 3));
+        assertTrue(copy.isWall(2, 3));
+    }
+
+    @Test
+    void rejectsInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new Grid(-1, 3, false));
+        assertThrows(IllegalArgumentException.class, () -> new Grid(65536, 65536, false));
+        assertThrows(IllegalArgumentException.class, () -> new Grid(10, 10, new long[1]));
+    }
+}
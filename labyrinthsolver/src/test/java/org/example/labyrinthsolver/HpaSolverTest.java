@@ -0,0 +1,65 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// HPA* ne garantit pas le plus court chemin : on vérifie qu'il trouve un chemin valide exactement quand
+// il en existe un, et jamais plus court que la référence
+class HpaSolverTest {
+    @Test
+    void findsValidPathWheneverOneExists() {
+        HpaSolver solver = new HpaSolver();
+        for (long seed = 0; seed < 60; seed++) {
+            // Plusieurs clusters de 32 cases, dimensions non multiples
+            MazeSnapshot maze = seed % 2 == 0 ? TestMazes.generated(71, 101, seed)
+                    : TestMazes.randomWalls(90, 70, 0.2 + (seed % 4) * 0.05, seed);
+            assertMatchesReference(solver, maze, "graine " + seed);
+        }
+    }
+
+    @Test
+    void singleClusterMaze() {
+        HpaSolver solver = new HpaSolver();
+        for (long seed = 0; seed < 20; seed++) {
+            assertMatchesReference(solver, TestMazes.randomWalls(15, 20, 0.3, seed), "graine " + seed);
+        }
+    }
+
+    // Après un setWall, l'instantané reprend la hiérarchie du précédent mise à jour au lieu de la
+    // reconstruire : le résultat doit rester celui d'une hiérarchie neuve
+    @Test
+    void followsIncrementalWallChanges() {
+        HpaSolver solver = new HpaSolver();
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(81, 97, 11);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int k = 0; k < 150; k++) {
+            MazeSnapshot maze = labyrinth.snapshot();
+            solver.solve(maze); // Construit la hiérarchie que le prochain instantané mettra à jour
+            int x = 1 + random.nextInt(79), y = 1 + random.nextInt(95);
+            if ((x != maze.getStartX() || y != maze.getStartY()) && (x != maze.getEndX() || y != maze.getEndY())) {
+                labyrinth.setWall(x, y, random.nextInt(3) != 0);
+            }
+            MazeSnapshot updated = labyrinth.snapshot();
+            assertMatchesReference(solver, updated, "étape " + k);
+            MazeSnapshot fresh = new MazeSnapshot(updated.getCells(), updated.getStartX(), updated.getStartY(),
+                    updated.getEndX(), updated.getEndY());
+            assertEquals(solver.solve(fresh).getPath().size(), solver.solve(updated).getPath().size(),
+                    "étape " + k);
+        }
+    }
+
+    private static void assertMatchesReference(HpaSolver solver, MazeSnapshot maze, String context) {
+        Labyrinth.SolveResult result = solver.solve(maze);
+        int expected = TestMazes.shortestPathLength(maze);
+        assertEquals(expected >= 0, result.isPathFound(), context);
+        if (expected >= 0) {
+            TestMazes.assertValidPath(maze, result.getPath());
+            assertTrue(result.getPath().size() >= expected, context);
+        }
+    }
+}
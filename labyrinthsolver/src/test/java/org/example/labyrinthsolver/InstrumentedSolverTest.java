@@ -0,0 +1,103 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedSolverTest {
+    private static final MazeSnapshot MAZE = TestMazes.generated(61, 61, 4);
+
+    // Le résultat du solveur enveloppé est renvoyé tel quel, et chaque résolution est enregistrée une fois
+    @Test
+    void passesResultThroughAndRecordsOnce() {
+        Counting counting = new Counting(new BfsSolver());
+        MetricsRegistry registry = new MetricsRegistry();
+        InstrumentedSolver solver = new InstrumentedSolver(counting, registry);
+        assertEquals("BFS", solver.getName());
+        assertEquals(counting.cacheKey(), solver.cacheKey());
+
+        Labyrinth.SolveResult result = solver.solve(MAZE);
+        assertSame(counting.last, result);
+        assertEquals(1, counting.calls.get());
+        MetricsRegistry.Histogram expanded = registry.histogram("BFS", "expanded");
+        assertEquals(1, expanded.getCount());
+        assertEquals(result.getSteps(), expanded.getSum());
+        assertTrue(registry.histogram("BFS", "peak_frontier").getMax() > 0);
+
+        solver.solve(MAZE);
+        assertEquals(2, counting.calls.get());
+        assertEquals(2, expanded.getCount());
+        assertNull(SolveTrace.current()); // La trace est refermée après chaque résolution
+    }
+
+    @Test
+    void measureReportsLoadAndPhases() {
+        MetricsRegistry registry = new MetricsRegistry();
+        InstrumentedSolver solver = new InstrumentedSolver(new CorridorSolver(), registry);
+        SolveMetrics metrics = solver.measure(MAZE, 2.5);
+        assertTrue(metrics.getResult().isPathFound());
+        assertEquals(TestMazes.shortestPathLength(MAZE), metrics.getResult().getPath().size());
+        assertEquals("A* (couloirs)", metrics.getAlgorithm());
+        assertEquals(metrics.getResult().getSteps(), metrics.getExpanded());
+        assertTrue(metrics.getPreprocessMs() > 0); // Construction du graphe des couloirs
+        assertTrue(metrics.getSearchMs() > 0);
+        assertEquals(2.5 + metrics.getPreprocessMs() + metrics.getSearchMs() + metrics.getReconstructMs(),
+                metrics.getTotalMs(), 1e-9);
+        assertEquals(2500, registry.histogram("A* (couloirs)", "load_us").getMax());
+    }
+
+    // Une résolution qui échoue n'est pas enregistrée et ne laisse pas de trace active
+    @Test
+    void failedSolveRecordsNothing() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Solver failing = new Solver() {
+            @Override
+            public String getName() {
+                return "En échec";
+            }
+
+            @Override
+            public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+                throw new IllegalStateException("échec");
+            }
+        };
+        InstrumentedSolver solver = new InstrumentedSolver(failing, registry);
+        assertThrows(IllegalStateException.class, () -> solver.solve(MAZE));
+        assertNull(registry.histogram("En échec", "expanded"));
+        assertNull(SolveTrace.current());
+    }
+
+    // Compte les appels et garde le dernier résultat renvoyé
+    private static final class Counting implements Solver {
+        private final Solver solver;
+        final AtomicInteger calls = new AtomicInteger();
+        Labyrinth.SolveResult last;
+
+        Counting(Solver solver) {
+            this.solver = solver;
+        }
+
+        @Override
+        public String getName() {
+            return solver.getName();
+        }
+
+        @Override
+        public String cacheKey() {
+            return "compté:" + solver.cacheKey();
+        }
+
+        @Override
+        public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+            calls.incrementAndGet();
+            last = solver.solve(maze);
+            return last;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LabyrinthTest {
+    @Test
+    void seededGenerationIsReproducible() {
+        for (long seed = 0; seed < 10; seed++) {
+            assertArrayEquals(words(generated(41, 53, seed)), words(generated(41, 53, seed)), "graine " + seed);
+        }
+        assertFalse(Arrays.equals(words(generated(41, 53, 1)), words(generated(41, 53, 2))));
+    }
+
+    // La graine ne sert qu'à son appel : deux labyrinthes passés par la même graine divergent ensuite
+    @Test
+    void seededCallDoesNotReseedLaterCalls() {
+        Labyrinth first = generated(31, 31, 5), second = generated(31, 31, 5);
+        first.generateRandomMaze(31, 31);
+        second.generateRandomMaze(31, 31);
+        assertFalse(Arrays.equals(words(first), words(second)));
+    }
+
+    // Une génération publie un seul instantané, déjà creusé : S et E reliés
+    @Test
+    void generationPublishesOnceAndComplete() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        List<MazeSnapshot> published = new ArrayList<>();
+        labyrinth.addMazeListener(new MazeListener() {
+            @Override
+            public void cellChanged(MazeSnapshot maze, int x, int y) {
+            }
+
+            @Override
+            public void mazeReplaced(MazeSnapshot maze) {
+                published.add(maze);
+            }
+        });
+        labyrinth.generateRandomMaze(41, 41);
+        labyrinth.generateRandomMaze(41, 41, 3);
+        labyrinth.generateParallelMaze(41, 41, 3);
+        assertEquals(3, published.size());
+        for (MazeSnapshot maze : published) {
+            assertTrue(TestMazes.shortestPathLength(maze) > 0);
+        }
+    }
+
+    // Des lecteurs résolvent pendant qu'un autre thread génère : ils ne voient jamais de grille à
+    // moitié creusée
+    @Test
+    void concurrentSolvesOnlySeeCompleteMazes() throws Exception {
+        Labyrinth labyrinth = generated(61, 61, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int k = 0; k < 50; k++) {
+                    labyrinth.generateRandomMaze(61, 61);
+                }
+            });
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                readers.add(executor.submit(() -> {
+                    int failures = 0;
+                    while (!writer.isDone()) {
+                        MazeSnapshot maze = labyrinth.snapshot();
+                        Labyrinth.SolveResult result = new BfsSolver().solve(maze);
+                        if (!result.isPathFound()
+                                || result.getPath().size() != TestMazes.shortestPathLength(maze)) {
+                            failures++;
+                        }
+                    }
+                    return failures;
+                }));
+            }
+            writer.get();
+            for (Future<Integer> reader : readers) {
+                assertEquals(0, reader.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Les getters lisent le dernier instantané publié ; l'export char[][] suit la grille
+    @Test
+    void gettersFollowPublishedSnapshot() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        assertNull(labyrinth.getCells());
+        assertNull(labyrinth.getMaze());
+        assertEquals(0, labyrinth.getRows());
+        labyrinth.generateRandomMaze(21, 31, 4);
+        MazeSnapshot maze = labyrinth.snapshot();
+        assertSame(maze.getCells(), labyrinth.getCells());
+        assertSame(maze.getCells(), labyrinth.getGrid());
+        assertEquals(21, labyrinth.getRows());
+        assertEquals(31, labyrinth.getCols());
+        assertEquals(19, labyrinth.getEndX());
+        assertEquals(29, labyrinth.getEndY());
+        char[][] chars = labyrinth.getMaze();
+        assertSame(chars, labyrinth.getMaze());
+        labyrinth.clearCell(2, 2);
+        assertEquals('=', labyrinth.getMaze()[2][2]);
+        assertEquals(21, labyrinth.getMaze().length);
+    }
+
+    // Export demandé pendant qu'un autre thread génère des labyrinthes de tailles différentes : chaque
+    // tableau est complet, avec un seul S et un seul E
+    @Test
+    void concurrentExportsAreComplete() throws Exception {
+        Labyrinth labyrinth = generated(41, 41, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int k = 0; k < 50; k++) {
+                    labyrinth.generateRandomMaze(k % 2 == 0 ? 61 : 41, k % 2 == 0 ? 31 : 41);
+                }
+            });
+            Future<Integer> reader = executor.submit(() -> {
+                int failures = 0;
+                while (!writer.isDone()) {
+                    char[][] chars = labyrinth.getMaze();
+                    int starts = 0, ends = 0;
+                    for (char[] row : chars) {
+                        for (char c : row) {
+                            if (c == 'S') starts++;
+                            if (c == 'E') ends++;
+                        }
+                    }
+                    if (starts != 1 || ends != 1) {
+                        failures++;
+                    }
+                }
+                return failures;
+            });
+            writer.get();
+            assertEquals(0, reader.get().intValue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Labyrinth generated(int rows, int cols, long seed) {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(rows, cols, seed);
+        return labyrinth;
+    }
+
+    private static long[] words(Labyrinth labyrinth) {
+        return ((Grid) labyrinth.snapshot().getCells()).words();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Après chaque série de setWall, replan() doit donner la longueur d'une résolution complète
+class LpaStarPlannerTest {
+    @Test
+    void replanMatchesFullSearchAfterWallToggles() {
+        for (long seed = 0; seed < 20; seed++) {
+            Labyrinth labyrinth = new Labyrinth(null);
+            labyrinth.generateRandomMaze(31, 41, seed);
+            LpaStarPlanner planner = new LpaStarPlanner(labyrinth.snapshot());
+            labyrinth.addMazeListener(planner);
+            assertReplanMatches(labyrinth, planner, seed);
+
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int round = 0; round < 30; round++) {
+                int changes = 1 + random.nextInt(5);
+                for (int k = 0; k < changes; k++) {
+                    toggleRandomCell(labyrinth, random);
+                }
+                assertReplanMatches(labyrinth, planner, seed);
+            }
+        }
+    }
+
+    // Un nouveau labyrinthe (autre taille, autres S et E) repart de zéro
+    @Test
+    void followsReplacedMaze() {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(21, 21, 1);
+        LpaStarPlanner planner = new LpaStarPlanner(labyrinth.snapshot());
+        labyrinth.addMazeListener(planner);
+        planner.replan();
+        labyrinth.generateRandomMaze(35, 27, 2);
+        assertReplanMatches(labyrinth, planner, 2);
+        toggleRandomCell(labyrinth, new SplittableRandom(2));
+        assertReplanMatches(labyrinth, planner, 2);
+    }
+
+    // S et E restent ouverts
+    private static void toggleRandomCell(Labyrinth labyrinth, SplittableRandom random) {
+        MazeSnapshot maze = labyrinth.snapshot();
+        CellGrid cells = maze.getCells();
+        int x = 1 + random.nextInt(cells.getRows() - 2), y = 1 + random.nextInt(cells.getCols() - 2);
+        if ((x == maze.getStartX() && y == maze.getStartY()) || (x == maze.getEndX() && y == maze.getEndY())) {
+            return;
+        }
+        labyrinth.setWall(x, y, !cells.isWall(x, y));
+    }
+
+    private static void assertReplanMatches(Labyrinth labyrinth, LpaStarPlanner planner, long seed) {
+        MazeSnapshot maze = labyrinth.snapshot();
+        Labyrinth.SolveResult result = planner.replan();
+        int expected = TestMazes.shortestPathLength(maze);
+        assertEquals(expected >= 0, result.isPathFound(), "graine " + seed);
+        if (expected >= 0) {
+            TestMazes.assertValidPath(maze, result.getPath());
+            assertEquals(expected, result.getPath().size(), "graine " + seed);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MazeFilesTest {
+    @TempDir
+    Path dir;
+
+    // Largeurs autour de 8 (lecture SWAR) et de 64 (mots de bits à cheval sur deux rangées)
+    @Test
+    void textRoundTrip() throws IOException {
+        Path file = dir.resolve("maze.txt");
+        for (int cols : new int[]{5, 7, 9, 15, 17, 63, 65, 67, 129}) {
+            MazeSnapshot maze = TestMazes.randomWalls(21, cols, 0.4, cols);
+            MazeFiles.writeText(file, data(maze));
+            assertSameMaze(maze, MazeFiles.readText(file));
+        }
+    }
+
+    @Test
+    void labyrinthSavesAndLoadsText() throws IOException {
+        Path file = dir.resolve("maze.txt");
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(31, 45, 3);
+        MazeSnapshot maze = labyrinth.snapshot();
+        labyrinth.saveToTextFile(file.toString());
+        Labyrinth loaded = new Labyrinth(null);
+        loaded.loadFromFile(file.toString());
+        assertSameMaze(maze, data(loaded.snapshot()));
+    }
+
+    // Fins de ligne Windows, lignes courtes (complétées par des murs) ou trop longues (tronquées),
+    // caractères UTF-8 sur plusieurs octets et dernière ligne sans '\n' : comparé à une lecture naïve
+    @Test
+    void readTextMatchesNaiveParsing() throws IOException {
+        Path file = dir.resolve("maze.txt");
+        String alphabet = "###  ==..éS";
+        for (long seed = 0; seed < 100; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int width = 1 + random.nextInt(80);
+            int rows = 1 + random.nextInt(30);
+            List<String> lines = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < rows; i++) {
+                int length = i == 0 ? width : random.nextInt(width + 10);
+                StringBuilder line = new StringBuilder();
+                for (int j = 0; j < length; j++) {
+                    line.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                lines.add(line.toString());
+                text.append(line);
+                if (i < rows - 1 || random.nextBoolean()) {
+                    text.append(random.nextBoolean() ? "\r\n" : "\n");
+                }
+            }
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            MazeFiles.MazeData data = MazeFiles.readText(file);
+            assertEquals(rows, data.grid.getRows(), "graine " + seed);
+            assertEquals(width, data.grid.getCols(), "graine " + seed);
+            for (int i = 0; i < rows; i++) {
+                String line = lines.get(i);
+                for (int j = 0; j < width; j++) {
+                    boolean wall = j >= line.length() || line.charAt(j) == '#';
+                    assertEquals(wall, data.grid.isWall(i, j), "graine " + seed + ", case " + i + "," + j);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsEmptyText() throws IOException {
+        Path file = Files.createFile(dir.resolve("empty.txt"));
+        assertThrows(IOException.class, () -> MazeFiles.readText(file));
+    }
+
+    @Test
+    void binaryRoundTrip() throws IOException {
+        Path file = dir.resolve("maze.lab");
+        for (int cols : new int[]{5, 9, 63, 64, 65, 129}) {
+            MazeSnapshot maze = TestMazes.randomWalls(21, cols, 0.4, cols);
+            MazeFiles.writeBinary(file, data(maze));
+            assertTrue(MazeFiles.isBinary(file));
+            assertSameMaze(maze, MazeFiles.readBinary(file));
+        }
+    }
+
+    // loadFromFile reconnaît le binaire à sa signature ; la conversion ne perd rien dans les deux sens
+    @Test
+    void convertsBetweenTextAndBinary() throws IOException {
+        Path text = dir.resolve("maze.txt"), binary = dir.resolve("maze.lab"), back = dir.resolve("back.txt");
+        MazeSnapshot maze = TestMazes.generated(41, 67, 5);
+        MazeFiles.writeText(text, data(maze));
+        assertFalse(MazeFiles.isBinary(text));
+        Labyrinth.convertTextToBinary(text.toString(), binary.toString());
+        Labyrinth loaded = new Labyrinth(null);
+        loaded.loadFromFile(binary.toString());
+        assertSameMaze(maze, data(loaded.snapshot()));
+        Labyrinth.convertBinaryToText(binary.toString(), back.toString());
+        assertEquals(Files.readString(text), Files.readString(back));
+    }
+
+    @Test
+    void rejectsDamagedBinary() throws IOException {
+        Path file = dir.resolve("maze.lab");
+        MazeFiles.writeBinary(file, data(TestMazes.generated(21, 21, 1)));
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MazeFiles.readBinary(file));
+
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = 99;
+        Files.write(file, badVersion);
+        assertThrows(IOException.class, () -> MazeFiles.readBinary(file));
+
+        byte[] badStart = bytes.clone();
+        badStart[16] = 100; // Départ en rangée 100 d'une grille de 21 rangées
+        Files.write(file, badStart);
+        assertThrows(IOException.class, () -> MazeFiles.readBinary(file));
+    }
+
+    static MazeFiles.MazeData data(MazeSnapshot maze) {
+        return new MazeFiles.MazeData((Grid) maze.getCells(), maze.getStartX(), maze.getStartY(),
+                maze.getEndX(), maze.getEndY());
+    }
+
+    static void assertSameMaze(MazeSnapshot expected, MazeFiles.MazeData actual) {
+        CellGrid cells = expected.getCells();
+        assertEquals(cells.getRows(), actual.grid.getRows());
+        assertEquals(cells.getCols(), actual.grid.getCols());
+        for (int x = 0; x < cells.getRows(); x++) {
+            for (int y = 0; y < cells.getCols(); y++) {
+                assertEquals(cells.isWall(x, y), actual.grid.isWall(x, y), "case " + x + "," + y);
+            }
+        }
+        assertEquals(expected.getStartX(), actual.startX);
+        assertEquals(expected.getStartY(), actual.startY);
+        assertEquals(expected.getEndX(), actual.endX);
+        assertEquals(expected.getEndY(), actual.endY);
+    }
+}
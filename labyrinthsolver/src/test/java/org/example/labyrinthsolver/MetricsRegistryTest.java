@@ -0,0 +1,97 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsRegistryTest {
+    // Seau k pour [2^(k-1), 2^k) : le quantile donne la borne haute du seau, limitée au maximum
+    @Test
+    void quantilesUsePowerOfTwoBuckets() {
+        MetricsRegistry.Histogram h = new MetricsRegistry.Histogram();
+        for (long v = 1; v <= 100; v++) {
+            h.record(v);
+        }
+        assertEquals(100, h.getCount());
+        assertEquals(5050, h.getSum());
+        assertEquals(1, h.getMin());
+        assertEquals(100, h.getMax());
+        assertEquals(1, h.quantile(0));
+        assertEquals(63, h.quantile(0.5)); // 50e valeur dans [32, 64)
+        assertEquals(100, h.quantile(0.9)); // [64, 128) borné par le maximum
+        assertEquals(100, h.quantile(0.99));
+        assertEquals(100, h.quantile(1));
+    }
+
+    @Test
+    void bucketBoundaries() {
+        MetricsRegistry.Histogram h = new MetricsRegistry.Histogram();
+        h.record(-5); // Compté comme 0
+        h.record(0);
+        h.record(1024);
+        h.record(Long.MAX_VALUE);
+        assertEquals(0, h.getMin());
+        assertEquals(0, h.quantile(0.5));
+        assertEquals(2047, h.quantile(0.75)); // 1024 ouvre le seau [1024, 2048)
+        assertEquals(Long.MAX_VALUE, h.quantile(1));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        MetricsRegistry.Histogram h = new MetricsRegistry.Histogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMin());
+        assertEquals(0, h.getMax());
+        assertEquals(0, h.quantile(0.99));
+    }
+
+    // Une résolution ajoute une valeur à chaque mesure de son algorithme ; les allocations inconnues (-1)
+    // sont laissées de côté
+    @Test
+    void recordsEachMetricOfASolve() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.record(metrics("BFS", 40, 7, -1, 1.5, 0, 2.25, 0.125));
+        registry.record(metrics("BFS", 60, 9, 4096, 0, 0, 1, 0));
+        assertEquals(2, registry.histogram("BFS", "expanded").getCount());
+        assertEquals(100, registry.histogram("BFS", "expanded").getSum());
+        assertEquals(9, registry.histogram("BFS", "peak_frontier").getMax());
+        assertEquals(1, registry.histogram("BFS", "allocated_bytes").getCount());
+        assertEquals(1500, registry.histogram("BFS", "load_us").getMax());
+        assertEquals(3250, registry.histogram("BFS", "search_us").getSum());
+        assertEquals(3875, registry.histogram("BFS", "total_us").getMax());
+        assertNull(registry.histogram("A*", "expanded"));
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("BFS", "inconnue"));
+    }
+
+    // En-tête, puis une ligne par mesure dans l'ordre fixe, algorithmes triés par nom et entre guillemets
+    @Test
+    void exportsCsv() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.record(metrics("Dijkstra \"pondéré\"", 10, 1, 0, 0, 0, 0, 0));
+        registry.record(metrics("A*", 5, 2, 100, 0.001, 0.002, 0.003, 0.004));
+        StringWriter out = new StringWriter();
+        registry.writeCsv(out);
+        String[] lines = out.toString().split("\n");
+        assertEquals(17, lines.length);
+        assertEquals("algorithm,metric,count,sum,min,max,p50,p90,p99", lines[0]);
+        assertEquals("\"A*\",expanded,1,5,5,5,5,5,5", lines[1]);
+        assertEquals("\"A*\",peak_frontier,1,2,2,2,2,2,2", lines[2]);
+        assertEquals("\"A*\",allocated_bytes,1,100,100,100,100,100,100", lines[3]);
+        assertEquals("\"A*\",load_us,1,1,1,1,1,1,1", lines[4]);
+        assertEquals("\"A*\",total_us,1,10,10,10,10,10,10", lines[8]);
+        assertEquals("\"Dijkstra \"\"pondéré\"\"\",expanded,1,10,10,10,10,10,10", lines[9]);
+    }
+
+    private static SolveMetrics metrics(String algorithm, int steps, int peakFrontier, long allocated,
+                                        double loadMs, double preprocessMs, double searchMs, double reconstructMs) {
+        Labyrinth.SolveResult result = new Labyrinth.SolveResult(new ArrayList<>(), steps, searchMs, false);
+        return new SolveMetrics(algorithm, result, peakFrontier, allocated, loadMs, preprocessMs, searchMs,
+                reconstructMs);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Les solveurs de plus court chemin doivent trouver un chemin exactement quand BFS en trouve un, et de
+// même longueur (le chemin lui-même peut différer)
+class ShortestPathSolverTest {
+    // Construits une fois : ParallelBfsSolver(4) garde son propre pool
+    private static final List<Solver> SOLVERS = List.of(new AStarSolver(), new DijkstraSolver(),
+            new BidirectionalBfsSolver(), new JumpPointSolver(), new ParallelBfsSolver(), new ParallelBfsSolver(4),
+            new CorridorSolver(), new CorridorSolver(false), new DeadEndFillingSolver(new BfsSolver()),
+            new DeadEndFillingSolver(new AStarSolver()));
+
+    private static MazeSnapshot maze(long seed) {
+        return switch ((int) (seed % 3)) {
+            case 0 -> TestMazes.generated(11 + (int) (seed % 50), 13 + (int) (seed % 40), seed);
+            case 1 -> TestMazes.randomWalls(25, 35, 0.3, seed);
+            default -> TestMazes.randomWalls(40, 40, 0.1, seed); // Grandes zones ouvertes
+        };
+    }
+
+    @Test
+    void matchesBfsOnRandomMazes() {
+        BfsSolver bfs = new BfsSolver();
+        for (long seed = 0; seed < 300; seed++) {
+            MazeSnapshot maze = maze(seed);
+            Labyrinth.SolveResult expected = bfs.solve(maze);
+            for (Solver solver : SOLVERS) {
+                Labyrinth.SolveResult result = solver.solve(maze);
+                String context = solver.getName() + ", graine " + seed;
+                assertEquals(expected.isPathFound(), result.isPathFound(), context);
+                if (expected.isPathFound()) {
+                    TestMazes.assertValidPath(maze, result.getPath());
+                    assertEquals(expected.getPath().size(), result.getPath().size(), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesBfsOnLargeMaze() {
+        MazeSnapshot maze = TestMazes.generated(301, 401, 7);
+        int expected = new BfsSolver().solve(maze).getPath().size();
+        for (Solver solver : SOLVERS) {
+            Labyrinth.SolveResult result = solver.solve(maze);
+            TestMazes.assertValidPath(maze, result.getPath());
+            assertEquals(expected, result.getPath().size(), solver.getName());
+        }
+    }
+
+    // Avec des poids, A* (heuristique admissible) et Dijkstra trouvent le même coût minimal
+    @Test
+    void weightedAStarMatchesDijkstraCost() {
+        for (long seed = 0; seed < 100; seed++) {
+            MazeSnapshot maze = maze(seed);
+            int[] weights = new int[maze.getRows() * maze.getCols()];
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = 1 + random.nextInt(9);
+            }
+            Labyrinth.SolveResult dijkstra = new DijkstraSolver(weights).solve(maze);
+            Labyrinth.SolveResult astar = new AStarSolver(weights).solve(maze);
+            assertEquals(dijkstra.isPathFound(), astar.isPathFound(), "graine " + seed);
+            if (dijkstra.isPathFound()) {
+                TestMazes.assertValidPath(maze, astar.getPath());
+                long cost = cost(maze, dijkstra.getPath(), weights);
+                assertEquals(cost, cost(maze, astar.getPath(), weights), "graine " + seed);
+                // Jamais plus cher que le plus court chemin en nombre de cases
+                assertTrue(cost <= cost(maze, new BfsSolver().solve(maze).getPath(), weights), "graine " + seed);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AStarSolver(new int[]{1, 0, 1}));
+        MazeSnapshot maze = TestMazes.generated(11, 11, 1);
+        assertThrows(IllegalArgumentException.class, () -> new DijkstraSolver(new int[]{1, 2}).solve(maze));
+    }
+
+    // Coût d'un chemin : poids des cases où l'on entre (S non compris)
+    private static long cost(MazeSnapshot maze, List<int[]> path, int[] weights) {
+        long cost = 0;
+        for (int k = 1; k < path.size(); k++) {
+            cost += weights[maze.getCells().index(path.get(k)[0], path.get(k)[1])];
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolutionPrinterTest {
+    @Test
+    void drawsPathOverSolvedMaze() {
+        MazeSnapshot maze = TestMazes.fromText(
+                "#####",
+                "#S=##",
+                "##=E#",
+                "#####");
+        StringWriter out = new StringWriter();
+        try (SolutionPrinter printer = new SolutionPrinter(out)) {
+            printer.printSolution(maze, new BfsSolver().solve(maze).getPath());
+        }
+        assertEquals(String.join(System.lineSeparator(),
+                "Solution:", "#####", "#S+##", "##+E#", "#####", "") + System.lineSeparator(), out.toString());
+    }
+
+    // Le labyrinthe change après la résolution : le chemin reste dessiné sur la grille résolue
+    @Test
+    void printsSolvedSnapshotNotCurrentMaze() {
+        Labyrinth labyrinth = new Labyrinth(new char[][]{
+                "#####".toCharArray(),
+                "#S=E#".toCharArray(),
+                "#####".toCharArray()});
+        MazeSnapshot solved = labyrinth.snapshot();
+        Labyrinth.SolveResult result = new BfsSolver().solve(solved);
+        labyrinth.setWall(1, 2, true);
+        StringWriter out = new StringWriter();
+        try (SolutionPrinter printer = new SolutionPrinter(out)) {
+            printer.printResult("BFS", solved, result);
+        }
+        assertTrue(out.toString().contains("#S+E#"), out.toString());
+    }
+
+    @Test
+    void reportsStoppedAndMissingPaths() {
+        MazeSnapshot maze = TestMazes.fromText("S#E");
+        StringWriter out = new StringWriter();
+        try (SolutionPrinter printer = new SolutionPrinter(out)) {
+            printer.printResult("BFS", maze, new BfsSolver().solve(maze));
+            printer.printResult("BFS", maze, new Labyrinth.SolveResult(new ArrayList<>(), 5, 0, false, true));
+        }
+        assertTrue(out.toString().contains("Aucun chemin trouvé"));
+        assertTrue(out.toString().contains("interrompue"));
+    }
+}
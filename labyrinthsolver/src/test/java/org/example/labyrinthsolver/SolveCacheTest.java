@@ -0,0 +1,104 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolveCacheTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void secondSolveIsServedFromMemory() {
+        SolveCache cache = new SolveCache(4);
+        Solver solver = new CachingSolver(new BfsSolver(), cache);
+        MazeSnapshot maze = TestMazes.generated(31, 31, 1);
+        Labyrinth.SolveResult first = solver.solve(maze);
+        // Même contenu dans un autre instantané : même entrée
+        MazeSnapshot copy = new MazeSnapshot(((Grid) maze.getCells()).copy(), maze.getStartX(), maze.getStartY(),
+                maze.getEndX(), maze.getEndY());
+        assertSame(first, solver.solve(copy));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    // A* pondéré et A* sans poids portent le même nom mais pas la même clé
+    @Test
+    void weightedAndUnweightedSolversDoNotShareEntries() {
+        SolveCache cache = new SolveCache(8);
+        MazeSnapshot maze = TestMazes.randomWalls(30, 30, 0.1, 2);
+        int[] weights = new int[30 * 30];
+        Arrays.fill(weights, 1);
+        int[] heavy = weights.clone();
+        Arrays.fill(heavy, 0, 15 * 30, 9); // Moitié haute chère : le chemin pondéré la contourne
+        Solver plain = new AStarSolver(), unit = new AStarSolver(weights), weighted = new AStarSolver(heavy);
+        assertEquals(plain.getName(), weighted.getName());
+        assertNotEquals(plain.cacheKey(), weighted.cacheKey());
+        assertNotEquals(unit.cacheKey(), weighted.cacheKey());
+        assertEquals(unit.cacheKey(), new AStarSolver(weights.clone()).cacheKey());
+
+        Labyrinth.SolveResult plainResult = cache.solve(plain, maze);
+        Labyrinth.SolveResult weightedResult = cache.solve(weighted, maze);
+        assertEquals(2, cache.getMisses());
+        assertEquals(weighted.solve(maze).getPath().size(), weightedResult.getPath().size());
+        assertSame(plainResult, cache.solve(plain, maze));
+        assertSame(weightedResult, cache.solve(weighted, maze));
+        assertNotEquals(new DeadEndFillingSolver(new BfsSolver()).cacheKey(), new BfsSolver().cacheKey());
+    }
+
+    // Deux grilles différentes de même empreinte : la seconde est résolue, pas servie depuis la première
+    @Test
+    void hashCollisionIsAMiss() throws Exception {
+        MazeSnapshot open = TestMazes.fromText(
+                "S===",
+                "===E");
+        MazeSnapshot blocked = TestMazes.fromText(
+                "S#==",
+                "#==E");
+        forceContentHash(blocked, open.contentHash());
+        assertEquals(open.contentHash(), blocked.contentHash());
+
+        SolveCache cache = new SolveCache(4, dir);
+        assertTrue(cache.solve(new BfsSolver(), open).isPathFound());
+        assertFalse(cache.solve(new BfsSolver(), blocked).isPathFound());
+        assertEquals(2, cache.getMisses());
+
+        // Le tier disque compare aussi la grille enregistrée
+        SolveCache reloaded = new SolveCache(4, dir);
+        assertFalse(reloaded.solve(new BfsSolver(), blocked).isPathFound());
+        assertTrue(reloaded.solve(new BfsSolver(), open).isPathFound());
+    }
+
+    @Test
+    void diskTierSurvivesNewCache() {
+        MazeSnapshot maze = TestMazes.generated(41, 41, 3);
+        Labyrinth.SolveResult first = new SolveCache(4, dir).solve(new BfsSolver(), maze);
+        SolveCache reloaded = new SolveCache(4, dir);
+        Labyrinth.SolveResult second = reloaded.solve(new BfsSolver(), maze);
+        assertEquals(1, reloaded.getDiskHits());
+        assertEquals(0, reloaded.getMisses());
+        assertEquals(first.getPath().size(), second.getPath().size());
+        for (int k = 0; k < first.getPath().size(); k++) {
+            assertArrayEquals(first.getPath().get(k), second.getPath().get(k), "étape " + k);
+        }
+    }
+
+    private static void forceContentHash(MazeSnapshot maze, long hash) throws Exception {
+        Field contentHash = MazeSnapshot.class.getDeclaredField("contentHash");
+        Field hashed = MazeSnapshot.class.getDeclaredField("hashed");
+        contentHash.setAccessible(true);
+        hashed.setAccessible(true);
+        contentHash.setLong(maze, hash);
+        hashed.setBoolean(maze, true);
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolveControlTest {
+    // Grand labyrinthe ouvert : une résolution complète dure bien plus que les délais testés
+    private static final MazeSnapshot LARGE = TestMazes.randomWalls(2000, 2000, 0.2, 1);
+
+    @Test
+    void cancelledBeforeStartDoesNothing() {
+        SolveControl control = new SolveControl();
+        control.cancel();
+        Labyrinth.SolveResult result = control.solve(new BfsSolver(), LARGE);
+        assertTrue(result.isStopped());
+        assertFalse(result.isPathFound());
+        assertEquals(0, result.getSteps());
+        assertTrue(result.getPath().isEmpty());
+    }
+
+    // Annulée pendant la résolution : arrêt au prochain point de contrôle, avec le chemin partiel. Les étapes
+    // comptent des cases (des nœuds pour couloirs et HPA*), donc au plus quelques intervalles de contrôle.
+    @Test
+    void cancelDuringSearchReturnsPartialPath() {
+        List<Solver> solvers = List.of(new BfsSolver(), new AStarSolver(), new DijkstraSolver(),
+                new JumpPointSolver(), new DfsSolver(), new BidirectionalBfsSolver(), new CorridorSolver(false),
+                new HpaSolver(), new ParallelBfsSolver());
+        for (Solver solver : solvers) {
+            SolveControl control = cancelledDuringSearch();
+            Labyrinth.SolveResult result = control.solve(delayed(solver, 120), LARGE);
+            assertTrue(result.isStopped(), solver.getName());
+            assertTrue(control.isCancelled(), solver.getName());
+            assertFalse(result.isPathFound(), solver.getName());
+            // ParallelBfsSolver compte un niveau entier par point de contrôle
+            assertTrue(solver instanceof ParallelBfsSolver
+                    || result.getSteps() <= 3 * SolveControl.CHECK_INTERVAL, solver.getName() + " : "
+                    + result.getSteps() + " étapes");
+            assertFalse(result.getPath().isEmpty(), solver.getName());
+            assertPartialPath(LARGE, result.getPath());
+        }
+    }
+
+    // Annulé avant le premier développement : seules les phases de préparation ont tourné
+    @Test
+    void cancelledBeforeSearchHasEmptyPath() {
+        for (Solver solver : List.of(new BfsSolver(), new CorridorSolver(), new HpaSolver())) {
+            SolveControl control = new SolveControl();
+            Labyrinth.SolveResult result = control.solve(cancelAfterStart(solver, control), LARGE);
+            assertTrue(result.isStopped(), solver.getName());
+            assertTrue(result.getSteps() <= SolveControl.CHECK_INTERVAL, solver.getName());
+        }
+    }
+
+    @Test
+    void timeoutStopsAtNextCheckpoint() {
+        SolveControl control = new SolveControl(10, null);
+        Labyrinth.SolveResult result = control.solve(delayed(new BfsSolver(), 30), LARGE);
+        assertTrue(result.isStopped());
+        assertTrue(control.isTimedOut());
+        assertFalse(control.isCancelled());
+        assertPartialPath(LARGE, result.getPath());
+    }
+
+    // Le rapport est fait sur le thread qui résout, au premier point de contrôle après l'intervalle
+    @Test
+    void reportsProgress() {
+        AtomicInteger reports = new AtomicInteger();
+        Thread solving = Thread.currentThread();
+        SolveControl control = new SolveControl(0, (explored, frontier) -> {
+            assertTrue(explored > 0);
+            assertSame(solving, Thread.currentThread());
+            reports.incrementAndGet();
+        });
+        Labyrinth.SolveResult result = control.solve(delayed(new BfsSolver(), 150), LARGE);
+        assertFalse(result.isStopped());
+        assertTrue(reports.get() > 0);
+    }
+
+    // Sans arrêt, le résultat est celui d'une résolution ordinaire ; le contrôle ne reste pas attaché au
+    // thread après solve()
+    @Test
+    void unstoppedSolveMatchesPlainSolve() {
+        MazeSnapshot maze = TestMazes.generated(101, 101, 5);
+        SolveControl control = new SolveControl(60_000, (explored, frontier) -> { });
+        Labyrinth.SolveResult result = control.solve(new AStarSolver(), maze);
+        assertFalse(result.isStopped());
+        assertEquals(TestMazes.shortestPathLength(maze), result.getPath().size());
+        assertNull(SolveTrace.current());
+        assertFalse(new BfsSolver().solve(LARGE).isStopped());
+    }
+
+    @Test
+    void rejectsNegativeTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> new SolveControl(-1, null));
+    }
+
+    // Contrôle qui s'annule au premier rapport de progression fait pendant la recherche (le premier
+    // tombe au premier point de contrôle si la résolution a été retardée de plus de 100 ms)
+    private static SolveControl cancelledDuringSearch() {
+        SolveControl[] control = new SolveControl[1];
+        control[0] = new SolveControl(0, (explored, frontier) -> {
+            if (explored > 0) {
+                control[0].cancel();
+            }
+        });
+        return control[0];
+    }
+
+    private static Solver cancelAfterStart(Solver solver, SolveControl control) {
+        return new Solver() {
+            @Override
+            public String getName() {
+                return solver.getName();
+            }
+
+            @Override
+            public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+                control.cancel();
+                return solver.solve(maze);
+            }
+        };
+    }
+
+    // Attend avant de résoudre : délai dépassé ou rapport dû dès le premier point de contrôle
+    private static Solver delayed(Solver solver, long delayMs) {
+        return new Solver() {
+            @Override
+            public String getName() {
+                return solver.getName();
+            }
+
+            @Override
+            public Labyrinth.SolveResult solve(MazeSnapshot maze) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return solver.solve(maze);
+            }
+        };
+    }
+
+    // Début de chemin : part de S, cases voisines, sans mur ni répétition (vide si rien n'a été développé)
+    private static void assertPartialPath(MazeSnapshot maze, List<int[]> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        assertEquals(maze.getStartX(), path.get(0)[0]);
+        assertEquals(maze.getStartY(), path.get(0)[1]);
+        for (int k = 1; k < path.size(); k++) {
+            int[] cell = path.get(k), previous = path.get(k - 1);
+            assertEquals(1, Math.abs(cell[0] - previous[0]) + Math.abs(cell[1] - previous[1]), "étape " + k);
+            assertFalse(maze.getCells().isWall(cell[0], cell[1]), "étape " + k);
+        }
+    }
+}
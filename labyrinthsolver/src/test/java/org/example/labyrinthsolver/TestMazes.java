@@ -0,0 +1,99 @@
+package org.example.labyrinthsolver;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Labyrinthes et vérifications communs aux tests
+final class TestMazes {
+    private TestMazes() {
+    }
+
+    // Labyrinthe de generateRandomMaze (backtracking puis chemins alternatifs : plusieurs plus courts chemins)
+    static MazeSnapshot generated(int rows, int cols, long seed) {
+        Labyrinth labyrinth = new Labyrinth(null);
+        labyrinth.generateRandomMaze(rows, cols, seed);
+        return labyrinth.snapshot();
+    }
+
+    // Murs tirés au hasard avec la densité donnée, S et E ouverts : souvent sans chemin au-delà de 0.4
+    static MazeSnapshot randomWalls(int rows, int cols, double density, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Grid grid = new Grid(rows, cols, false);
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++) {
+                grid.setWall(x, y, random.nextDouble() < density);
+            }
+        }
+        int startX = random.nextInt(rows), startY = random.nextInt(cols);
+        int endX = random.nextInt(rows), endY = random.nextInt(cols);
+        grid.setWall(startX, startY, false);
+        grid.setWall(endX, endY, false);
+        return new MazeSnapshot(grid, startX, startY, endX, endY);
+    }
+
+    static MazeSnapshot fromText(String... lines) {
+        char[][] maze = new char[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            maze[i] = lines[i].toCharArray();
+        }
+        return new Labyrinth(maze).snapshot();
+    }
+
+    // Nombre de cases du plus court chemin de S à E (S et E compris), -1 sans chemin. BFS de référence,
+    // volontairement naïf et indépendant des solveurs testés
+    static int shortestPathLength(MazeSnapshot maze) {
+        CellGrid cells = maze.getCells();
+        int rows = cells.getRows(), cols = cells.getCols();
+        int[][] distance = new int[rows][cols];
+        for (int[] row : distance) {
+            Arrays.fill(row, -1);
+        }
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        distance[maze.getStartX()][maze.getStartY()] = 1;
+        queue.add(new int[]{maze.getStartX(), maze.getStartY()});
+        int[][] moves = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            if (cell[0] == maze.getEndX() && cell[1] == maze.getEndY()) {
+                return distance[cell[0]][cell[1]];
+            }
+            for (int[] move : moves) {
+                int x = cell[0] + move[0], y = cell[1] + move[1];
+                if (x >= 0 && x < rows && y >= 0 && y < cols && distance[x][y] < 0 && !cells.isWall(x, y)) {
+                    distance[x][y] = distance[cell[0]][cell[1]] + 1;
+                    queue.add(new int[]{x, y});
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Chemin de S à E, case voisine par case voisine, sans mur ni case répétée
+    static void assertValidPath(MazeSnapshot maze, List<int[]> path) {
+        assertFalse(path.isEmpty(), "chemin vide");
+        int[] first = path.get(0), last = path.get(path.size() - 1);
+        assertTrue(first[0] == maze.getStartX() && first[1] == maze.getStartY(), "le chemin ne part pas de S");
+        assertTrue(last[0] == maze.getEndX() && last[1] == maze.getEndY(), "le chemin n'arrive pas en E");
+        CellGrid cells = maze.getCells();
+        boolean[] seen = new boolean[cells.getRows() * cells.getCols()];
+        for (int k = 0; k < path.size(); k++) {
+            int[] cell = path.get(k);
+            assertTrue(cells.inBounds(cell[0], cell[1]), "case hors de la grille");
+            if (k > 0) {
+                int[] previous = path.get(k - 1);
+                assertEquals(1, Math.abs(cell[0] - previous[0]) + Math.abs(cell[1] - previous[1]),
+                        "cases non voisines à l'étape " + k);
+                assertFalse(cells.isWall(cell[0], cell[1]), "mur sur le chemin à l'étape " + k);
+            }
+            int index = cells.index(cell[0], cell[1]);
+            assertFalse(seen[index], "case répétée à l'étape " + k);
+            seen[index] = true;
+        }
+    }
+}
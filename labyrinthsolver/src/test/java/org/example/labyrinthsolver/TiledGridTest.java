@@ -0,0 +1,155 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TiledGridTest {
+    @TempDir
+    Path dir;
+
+    // Dimensions multiples ou non du côté des tuiles ; deux tuiles en mémoire seulement pour forcer l'éviction
+    @Test
+    void writeAndOpenRoundTrip() throws IOException {
+        Path file = dir.resolve("maze.lat");
+        int[][] sizes = {{8, 8}, {21, 35}, {64, 17}, {1, 100}, {130, 9}};
+        for (int[] size : sizes) {
+            for (int tileSize : new int[]{8, 16, 64}) {
+                MazeSnapshot maze = TestMazes.randomWalls(size[0], size[1], 0.4, size[0] * 31L + tileSize);
+                TiledGrid.write(file, maze.getCells(), maze.getStartX(), maze.getStartY(),
+                        maze.getEndX(), maze.getEndY(), tileSize);
+                TiledGrid tiled = TiledGrid.open(file, 2);
+                assertSameCells(maze, tiled);
+                assertTrue(tiled.getResidentTiles() <= 2);
+            }
+        }
+    }
+
+    // Conversion par bandes : même grille que le chargement texte complet
+    @Test
+    void convertTextMatchesTextLoader() throws IOException {
+        Path text = dir.resolve("maze.txt"), tiles = dir.resolve("maze.lat");
+        MazeSnapshot maze = TestMazes.generated(77, 131, 9);
+        MazeFiles.writeText(text, MazeFilesTest.data(maze));
+        Labyrinth.convertTextToTiled(text.toString(), tiles.toString(), 32);
+        assertSameCells(maze, TiledGrid.open(tiles, 4));
+    }
+
+    // Lignes courtes, trop longues, CRLF, UTF-8 et dernière ligne sans '\n' : mêmes cases que readText,
+    // y compris d'une bande à l'autre
+    @Test
+    void convertTextFollowsTextLoaderRules() throws IOException {
+        Path text = dir.resolve("irregular.txt"), tiles = dir.resolve("irregular.lat");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 150; i++) {
+            String row = i % 7 == 3 ? "#é=" : "#=#=é==#=#=#==#=#=#=#==#" + (i % 5 == 0 ? "##extra" : "");
+            if (i == 1) row = "S" + row.substring(1);
+            if (i == 148) row = row.substring(0, 2) + "E" + row.substring(3);
+            content.append(row).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        content.append("=#=");
+        Files.writeString(text, content);
+        MazeFiles.MazeData expected = MazeFiles.readText(text);
+        Labyrinth.convertTextToTiled(text.toString(), tiles.toString(), 16);
+        TiledGrid tiled = TiledGrid.open(tiles, 3);
+        assertSameCells(new MazeSnapshot(expected.grid, expected.startX, expected.startY,
+                expected.endX, expected.endY), tiled);
+    }
+
+    @Test
+    void solversGiveSameResultOnTiledGrid() throws IOException {
+        Path file = dir.resolve("maze.lat");
+        List<Solver> solvers = List.of(new BfsSolver(), new DfsSolver(), new AStarSolver(), new JumpPointSolver());
+        for (long seed = 0; seed < 20; seed++) {
+            MazeSnapshot maze = seed % 2 == 0 ? TestMazes.generated(41, 61, seed)
+                    : TestMazes.randomWalls(50, 50, 0.3, seed);
+            TiledGrid.write(file, maze.getCells(), maze.getStartX(), maze.getStartY(),
+                    maze.getEndX(), maze.getEndY(), 16);
+            TiledGrid tiled = TiledGrid.open(file, 3);
+            MazeSnapshot tiledMaze = new MazeSnapshot(tiled, tiled.getStartX(), tiled.getStartY(),
+                    tiled.getEndX(), tiled.getEndY());
+            for (Solver solver : solvers) {
+                Labyrinth.SolveResult expected = solver.solve(maze);
+                Labyrinth.SolveResult result = solver.solve(tiledMaze);
+                String context = solver.getName() + ", graine " + seed;
+                assertEquals(expected.isPathFound(), result.isPathFound(), context);
+                if (expected.isPathFound()) {
+                    TestMazes.assertValidPath(maze, result.getPath());
+                    assertEquals(expected.getPath().size(), result.getPath().size(), context);
+                }
+            }
+        }
+    }
+
+    // Plusieurs threads lisent la même grille avec peu de tuiles en mémoire : chacun voit toutes les cases
+    @Test
+    void concurrentReadersSeeSameCells() throws Exception {
+        Path file = dir.resolve("maze.lat");
+        MazeSnapshot maze = TestMazes.randomWalls(200, 200, 0.4, 4);
+        TiledGrid.write(file, maze.getCells(), maze.getStartX(), maze.getStartY(),
+                maze.getEndX(), maze.getEndY(), 8);
+        TiledGrid tiled = TiledGrid.open(file, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> mismatches = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                mismatches.add(executor.submit(() -> {
+                    int count = 0;
+                    for (int round = 0; round < 5; round++) {
+                        for (int index = offset; index < 200 * 200; index += 3) {
+                            if (tiled.isWallAt(index) != maze.getCells().isWallAt(index)) {
+                                count++;
+                            }
+                        }
+                    }
+                    return count;
+                }));
+            }
+            for (Future<Integer> future : mismatches) {
+                assertEquals(0, future.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsInvalidSettings() throws IOException {
+        Path file = dir.resolve("maze.lat");
+        MazeSnapshot maze = TestMazes.generated(21, 21, 1);
+        assertThrows(IllegalArgumentException.class, () -> TiledGrid.write(file, maze.getCells(),
+                maze.getStartX(), maze.getStartY(), maze.getEndX(), maze.getEndY(), 12));
+        TiledGrid.write(file, maze.getCells(), maze.getStartX(), maze.getStartY(),
+                maze.getEndX(), maze.getEndY(), 8);
+        assertThrows(IllegalArgumentException.class, () -> TiledGrid.open(file, 0));
+    }
+
+    private static void assertSameCells(MazeSnapshot expected, TiledGrid tiled) {
+        CellGrid cells = expected.getCells();
+        assertEquals(cells.getRows(), tiled.getRows());
+        assertEquals(cells.getCols(), tiled.getCols());
+        for (int x = 0; x < cells.getRows(); x++) {
+            for (int y = 0; y < cells.getCols(); y++) {
+                assertEquals(cells.isWall(x, y), tiled.isWall(x, y), "case " + x + "," + y);
+                assertEquals(cells.isWall(x, y), tiled.isWallAt(cells.index(x, y)), "indice de " + x + "," + y);
+            }
+        }
+        assertEquals(expected.getStartX(), tiled.getStartX());
+        assertEquals(expected.getStartY(), tiled.getStartY());
+        assertEquals(expected.getEndX(), tiled.getEndX());
+        assertEquals(expected.getEndY(), tiled.getEndY());
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.labyrinthsolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TiledMazeGeneratorTest {
+    // {rangées, colonnes, côté des tuiles en salles} : tuile unique, une seule colonne ou rangée de
+    // tuiles, dimensions paires, tuiles incomplètes au bord
+    private static final int[][] SIZES = {{3, 3}, {4, 6}, {11, 11}, {81, 9}, {9, 81}, {60, 75}, {101, 131}};
+
+    // Les générateurs des tuiles sont tirés avant le calcul parallèle : un seul thread ou tout le pool
+    // commun donnent la même grille
+    @Test
+    void sameSeedGivesSameGridWhateverTheThreadCount() throws Exception {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            for (int[] size : SIZES) {
+                for (long seed = 0; seed < 3; seed++) {
+                    long s = seed;
+                    Grid parallel = TiledMazeGenerator.generate(size[0], size[1], s, 4);
+                    Grid sequential = single.submit(() -> TiledMazeGenerator.generate(size[0], size[1], s, 4)).get();
+                    assertArrayEquals(parallel.words(), sequential.words(), size[0] + "x" + size[1]);
+                }
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    // Arbre couvrant entre tuiles : toutes les cases ouvertes forment une seule composante, S et E compris
+    @Test
+    void generatedMazeIsConnected() {
+        for (int[] size : SIZES) {
+            for (long seed = 0; seed < 5; seed++) {
+                Grid grid = TiledMazeGenerator.generate(size[0], size[1], seed, 4);
+                MazeSnapshot maze = new MazeSnapshot(grid, 1, 1, size[0] - 2, size[1] - 2);
+                ComponentIndex index = maze.componentIndex();
+                String context = size[0] + "x" + size[1] + ", graine " + seed;
+                assertEquals(1, index.getComponentCount(), context);
+                assertFalse(grid.isWall(1, 1), context);
+                assertFalse(grid.isWall(size[0] - 2, size[1] - 2), context);
+                TestMazes.assertValidPath(maze, new BfsSolver().solve(maze).getPath());
+            }
+        }
+    }
+
+    @Test
+    void labyrinthPublishesParallelMaze() {
+        Labyrinth first = new Labyrinth(null), second = new Labyrinth(null);
+        first.generateParallelMaze(301, 257, 42);
+        second.generateParallelMaze(301, 257, 42);
+        long[] words = ((Grid) first.snapshot().getCells()).words();
+        assertArrayEquals(words, ((Grid) second.snapshot().getCells()).words());
+        assertEquals(299, first.snapshot().getEndX());
+        assertEquals(255, first.snapshot().getEndY());
+        second.generateParallelMaze(301, 257, 43);
+        assertFalse(Arrays.equals(words, ((Grid) second.snapshot().getCells()).words()));
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> TiledMazeGenerator.generate(2, 10, 1, 4));
+        assertThrows(IllegalArgumentException.class, () -> TiledMazeGenerator.generate(10, 10, 1, 1));
+    }
+}